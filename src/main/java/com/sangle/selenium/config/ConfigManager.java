@@ -3,6 +3,9 @@ package com.sangle.selenium.config;
 import com.sangle.selenium.constants.BrowserType;
 import com.sangle.selenium.constants.EnvironmentType;
 import com.sangle.selenium.constants.FrameworkConstants;
+import com.sangle.selenium.constants.ScreenshotFormat;
+import com.sangle.selenium.constants.ShardStrategy;
+import com.sangle.selenium.constants.StepLogMode;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
@@ -51,7 +54,57 @@ public final class ConfigManager {
                 Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_RETRY_ATTEMPTS)),
                 Long.parseLong(properties.getProperty(FrameworkConstants.ENV_RETRY_DELAY)),
                 Boolean.parseBoolean(properties.getProperty(FrameworkConstants.ENV_SCREENSHOT_ON_FAILURE)),
-                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_TEST_RETRY_COUNT, "0"))
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_TEST_RETRY_COUNT, "0")),
+                Boolean.parseBoolean(properties.getProperty(FrameworkConstants.ENV_HEALING_ENABLED, "true")),
+                properties.getProperty(FrameworkConstants.ENV_HEALING_STORE_PATH, "healing/locator-healing.json"),
+                Boolean.parseBoolean(properties.getProperty(FrameworkConstants.ENV_STEP_LOGGER_ASYNC, "true")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_STEP_LOGGER_BUFFER_SIZE, "1024")),
+                StepLogMode.from(properties.getProperty(FrameworkConstants.ENV_STEP_LOG_MODE, "FULL")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_STEP_LOG_FAILURE_BUFFER_SIZE, "2000")),
+                Boolean.parseBoolean(properties.getProperty(FrameworkConstants.ENV_TRACE_ENABLED, "true")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_TRACE_BUFFER_SIZE, "8192")),
+                Boolean.parseBoolean(properties.getProperty(FrameworkConstants.ENV_STEP_LOGGER_ALLURE_NESTED, "true")),
+                Boolean.parseBoolean(properties.getProperty(FrameworkConstants.ENV_STEP_LOGGER_ALLURE_COLLAPSE, "true")),
+                Boolean.parseBoolean(properties.getProperty(FrameworkConstants.ENV_SCREENSHOT_ASYNC, "true")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_SCREENSHOT_WRITER_THREADS, "2")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_SCREENSHOT_QUEUE_CAPACITY, "16")),
+                Long.parseLong(properties.getProperty(FrameworkConstants.ENV_SCREENSHOT_QUEUE_TIMEOUT, "5000")),
+                ScreenshotFormat.from(properties.getProperty(FrameworkConstants.ENV_SCREENSHOT_FORMAT, "PNG")),
+                Float.parseFloat(properties.getProperty(FrameworkConstants.ENV_SCREENSHOT_JPEG_QUALITY, "0.8")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_SCREENSHOT_MAX_WIDTH, "0")),
+                Long.parseLong(properties.getProperty(FrameworkConstants.ENV_SCREENSHOT_QUOTA_MB, "0")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_SCREENSHOT_HISTORY_SIZE, "0")),
+                properties.getProperty(FrameworkConstants.ENV_SCREENSHOT_HISTORY_STAGES, "SUCCESS,FAILURE"),
+                Long.parseLong(properties.getProperty(FrameworkConstants.ENV_SCREENSHOT_HISTORY_TEST_MAX_MB, "16")),
+                Long.parseLong(properties.getProperty(FrameworkConstants.ENV_SCREENSHOT_HISTORY_TOTAL_MAX_MB, "128")),
+                properties.getProperty(FrameworkConstants.ENV_VISUAL_BASELINE_DIR, "visual-baselines"),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_VISUAL_PIXEL_TOLERANCE, "8")),
+                Double.parseDouble(properties.getProperty(FrameworkConstants.ENV_VISUAL_MAX_DIFF_RATIO, "0.001")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_VISUAL_HASH_MAX_DISTANCE, "-1")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_VISUAL_DIFF_THREADS, "0")),
+                Boolean.parseBoolean(properties.getProperty(FrameworkConstants.ENV_VISUAL_UPDATE_BASELINES, "false")),
+                Boolean.parseBoolean(properties.getProperty(FrameworkConstants.ENV_VIDEO_ENABLED, "false")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_VIDEO_FPS, "5")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_VIDEO_MAX_WIDTH, "1280")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_VIDEO_QUALITY, "60")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_VIDEO_QUEUE_SIZE, "8")),
+                Boolean.parseBoolean(properties.getProperty(FrameworkConstants.ENV_DATA_CACHE_ENABLED, "true")),
+                Long.parseLong(properties.getProperty(FrameworkConstants.ENV_DATA_CACHE_MAX_ROWS, "1000000")),
+                properties.getProperty(FrameworkConstants.ENV_DATA_SNAPSHOT_DIR, "target/data-snapshots"),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_DATA_SHARD_INDEX, "0")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_DATA_SHARD_COUNT, "1")),
+                ShardStrategy.from(properties.getProperty(FrameworkConstants.ENV_DATA_SHARD_STRATEGY, "HASH")),
+                properties.getProperty(FrameworkConstants.ENV_DATA_SHARD_KEY, ""),
+                properties.getProperty(FrameworkConstants.ENV_FAKER_SEED, ""),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_FAKER_THREADS, "0")),
+                Integer.parseInt(properties.getProperty(FrameworkConstants.ENV_UNIQUE_WORKER_ID, "-1")),
+                properties.getProperty(FrameworkConstants.ENV_UNIQUE_EMAIL_DOMAIN, "example.test"),
+                properties.getProperty(FrameworkConstants.ENV_LEASE_DIR, "target/leases"),
+                Long.parseLong(properties.getProperty(FrameworkConstants.ENV_LEASE_TIMEOUT_SECONDS, "120")),
+                Long.parseLong(properties.getProperty(FrameworkConstants.ENV_LEASE_POLL_MILLIS, "100")),
+                Long.parseLong(properties.getProperty(FrameworkConstants.ENV_VALIDATION_BULK_TIMEOUT_MILLIS, "5000")),
+                Long.parseLong(properties.getProperty(FrameworkConstants.ENV_VALIDATION_BULK_POLL_MILLIS, "100")),
+                Boolean.parseBoolean(properties.getProperty(FrameworkConstants.ENV_PAGE_SOURCE_CACHE_ENABLED, "true"))
         );
     }
 
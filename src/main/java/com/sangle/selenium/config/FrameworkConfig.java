@@ -2,6 +2,9 @@ package com.sangle.selenium.config;
 
 import com.sangle.selenium.constants.BrowserType;
 import com.sangle.selenium.constants.EnvironmentType;
+import com.sangle.selenium.constants.ScreenshotFormat;
+import com.sangle.selenium.constants.ShardStrategy;
+import com.sangle.selenium.constants.StepLogMode;
 
 public record FrameworkConfig(
         String baseUrl,
@@ -14,6 +17,56 @@ public record FrameworkConfig(
         int retryAttempts,
         long retryDelayMillis,
         boolean screenshotOnFailure,
-        int testRetryCount
+        int testRetryCount,
+        boolean healingEnabled,
+        String healingStorePath,
+        boolean stepLoggerAsync,
+        int stepLoggerBufferSize,
+        StepLogMode stepLogMode,
+        int stepLogFailureBufferSize,
+        boolean traceEnabled,
+        int traceBufferSize,
+        boolean allureStepsNested,
+        boolean allureStepsCollapsed,
+        boolean screenshotAsync,
+        int screenshotWriterThreads,
+        int screenshotQueueCapacity,
+        long screenshotQueueTimeoutMillis,
+        ScreenshotFormat screenshotFormat,
+        float screenshotJpegQuality,
+        int screenshotMaxWidth,
+        long screenshotQuotaMb,
+        int screenshotHistorySize,
+        String screenshotHistoryStages,
+        long screenshotHistoryTestMaxMb,
+        long screenshotHistoryTotalMaxMb,
+        String visualBaselineDir,
+        int visualPixelTolerance,
+        double visualMaxDiffRatio,
+        int visualHashMaxDistance,
+        int visualDiffThreads,
+        boolean visualUpdateBaselines,
+        boolean videoEnabled,
+        int videoFps,
+        int videoMaxWidth,
+        int videoQuality,
+        int videoQueueSize,
+        boolean dataCacheEnabled,
+        long dataCacheMaxRows,
+        String dataSnapshotDir,
+        int dataShardIndex,
+        int dataShardCount,
+        ShardStrategy dataShardStrategy,
+        String dataShardKey,
+        String fakerSeed,
+        int fakerThreads,
+        int uniqueWorkerId,
+        String uniqueEmailDomain,
+        String leaseDir,
+        long leaseTimeoutSeconds,
+        long leasePollMillis,
+        long validationBulkTimeoutMillis,
+        long validationBulkPollMillis,
+        boolean pageSourceCacheEnabled
 ) {
 }
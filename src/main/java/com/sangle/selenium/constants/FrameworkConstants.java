@@ -8,6 +8,10 @@ public final class FrameworkConstants {
 
     public static final String CONFIG_FILE = "config.properties";
     public static final String SCREENSHOT_DIR = "screenshots";
+    public static final String HEALING_DIR = "healing";
+    public static final String TRACE_DIR = "traces";
+    public static final String VISUAL_DIFF_DIR = "visual-diffs";
+    public static final String VIDEO_DIR = "videos";
     public static final String ENV_BROWSER = "browser";
     public static final String ENV_BASE_URL = "base.url";
     public static final String ENV_IMPLICIT_TIMEOUT = "implicit.timeout.seconds";
@@ -19,4 +23,54 @@ public final class FrameworkConstants {
     public static final String ENV_RETRY_DELAY = "retry.delay.millis";
     public static final String ENV_TEST_RETRY_COUNT = "test.retry.count";
     public static final String ENV_SCREENSHOT_ON_FAILURE = "screenshot.on.failure";
+    public static final String ENV_HEALING_ENABLED = "healing.enabled";
+    public static final String ENV_HEALING_STORE_PATH = "healing.store.path";
+    public static final String ENV_STEP_LOGGER_ASYNC = "step.logger.async";
+    public static final String ENV_STEP_LOGGER_BUFFER_SIZE = "step.logger.buffer.size";
+    public static final String ENV_STEP_LOG_MODE = "step.logger.mode";
+    public static final String ENV_STEP_LOG_FAILURE_BUFFER_SIZE = "step.logger.failure.buffer.size";
+    public static final String ENV_TRACE_ENABLED = "trace.enabled";
+    public static final String ENV_TRACE_BUFFER_SIZE = "trace.buffer.size";
+    public static final String ENV_STEP_LOGGER_ALLURE_NESTED = "step.logger.allure.nested";
+    public static final String ENV_STEP_LOGGER_ALLURE_COLLAPSE = "step.logger.allure.collapse";
+    public static final String ENV_SCREENSHOT_ASYNC = "screenshot.async";
+    public static final String ENV_SCREENSHOT_WRITER_THREADS = "screenshot.writer.threads";
+    public static final String ENV_SCREENSHOT_QUEUE_CAPACITY = "screenshot.queue.capacity";
+    public static final String ENV_SCREENSHOT_QUEUE_TIMEOUT = "screenshot.queue.timeout.millis";
+    public static final String ENV_SCREENSHOT_FORMAT = "screenshot.format";
+    public static final String ENV_SCREENSHOT_JPEG_QUALITY = "screenshot.jpeg.quality";
+    public static final String ENV_SCREENSHOT_MAX_WIDTH = "screenshot.max.width";
+    public static final String ENV_SCREENSHOT_QUOTA_MB = "screenshot.quota.mb";
+    public static final String ENV_SCREENSHOT_HISTORY_SIZE = "screenshot.history.size";
+    public static final String ENV_SCREENSHOT_HISTORY_STAGES = "screenshot.history.stages";
+    public static final String ENV_SCREENSHOT_HISTORY_TEST_MAX_MB = "screenshot.history.test.max.mb";
+    public static final String ENV_SCREENSHOT_HISTORY_TOTAL_MAX_MB = "screenshot.history.total.max.mb";
+    public static final String ENV_VISUAL_BASELINE_DIR = "visual.baseline.dir";
+    public static final String ENV_VISUAL_PIXEL_TOLERANCE = "visual.pixel.tolerance";
+    public static final String ENV_VISUAL_MAX_DIFF_RATIO = "visual.max.diff.ratio";
+    public static final String ENV_VISUAL_HASH_MAX_DISTANCE = "visual.hash.max.distance";
+    public static final String ENV_VISUAL_DIFF_THREADS = "visual.diff.threads";
+    public static final String ENV_VISUAL_UPDATE_BASELINES = "visual.update.baselines";
+    public static final String ENV_VIDEO_ENABLED = "video.enabled";
+    public static final String ENV_VIDEO_FPS = "video.fps";
+    public static final String ENV_VIDEO_MAX_WIDTH = "video.max.width";
+    public static final String ENV_VIDEO_QUALITY = "video.quality";
+    public static final String ENV_VIDEO_QUEUE_SIZE = "video.queue.size";
+    public static final String ENV_DATA_CACHE_ENABLED = "data.cache.enabled";
+    public static final String ENV_DATA_CACHE_MAX_ROWS = "data.cache.max.rows";
+    public static final String ENV_DATA_SNAPSHOT_DIR = "data.snapshot.dir";
+    public static final String ENV_DATA_SHARD_INDEX = "data.shard.index";
+    public static final String ENV_DATA_SHARD_COUNT = "data.shard.count";
+    public static final String ENV_DATA_SHARD_STRATEGY = "data.shard.strategy";
+    public static final String ENV_DATA_SHARD_KEY = "data.shard.key";
+    public static final String ENV_FAKER_SEED = "faker.seed";
+    public static final String ENV_FAKER_THREADS = "faker.threads";
+    public static final String ENV_UNIQUE_WORKER_ID = "unique.worker.id";
+    public static final String ENV_UNIQUE_EMAIL_DOMAIN = "unique.email.domain";
+    public static final String ENV_LEASE_DIR = "lease.dir";
+    public static final String ENV_LEASE_TIMEOUT_SECONDS = "lease.timeout.seconds";
+    public static final String ENV_LEASE_POLL_MILLIS = "lease.poll.millis";
+    public static final String ENV_VALIDATION_BULK_TIMEOUT_MILLIS = "validation.bulk.timeout.millis";
+    public static final String ENV_VALIDATION_BULK_POLL_MILLIS = "validation.bulk.poll.millis";
+    public static final String ENV_PAGE_SOURCE_CACHE_ENABLED = "page.source.cache.enabled";
 }
@@ -0,0 +1,31 @@
+package com.sangle.selenium.constants;
+
+public enum ScreenshotFormat {
+    PNG("image/png", "png"),
+    JPEG("image/jpeg", "jpg");
+
+    private final String contentType;
+    private final String extension;
+
+    ScreenshotFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ScreenshotFormat from(String value) {
+        for (ScreenshotFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported screenshot format: " + value);
+    }
+}
@@ -0,0 +1,15 @@
+package com.sangle.selenium.constants;
+
+public enum ShardStrategy {
+    HASH,
+    ROUND_ROBIN;
+
+    public static ShardStrategy from(String value) {
+        for (ShardStrategy strategy : values()) {
+            if (strategy.name().equalsIgnoreCase(value)) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported shard strategy: " + value);
+    }
+}
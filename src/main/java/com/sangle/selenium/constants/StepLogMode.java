@@ -0,0 +1,15 @@
+package com.sangle.selenium.constants;
+
+public enum StepLogMode {
+    FULL,
+    FAILURE_ONLY;
+
+    public static StepLogMode from(String value) {
+        for (StepLogMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported step log mode: " + value);
+    }
+}
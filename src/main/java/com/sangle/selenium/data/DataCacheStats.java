@@ -0,0 +1,22 @@
+package com.sangle.selenium.data;
+
+/**
+ * Counters of the shared test-data cache since the start of the run.
+ */
+public record DataCacheStats(
+        long hits,
+        long loads,
+        long reloads,
+        long evictions,
+        int entries,
+        long cachedRows,
+        double parseMillis,
+        double savedMillis
+) {
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, loads=%d, reloads=%d, evictions=%d, entries=%d, rows=%d, parse=%.1fms, "
+                + "saved=%.1fms", hits, loads, reloads, evictions, entries, cachedRows, parseMillis, savedMillis);
+    }
+}
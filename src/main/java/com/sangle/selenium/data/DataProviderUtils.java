@@ -1,8 +1,21 @@
 package com.sangle.selenium.data;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Supplier;
 
+/**
+ * Turns test data into TestNG data-provider parameters. The wrapping methods keep only the rows of the
+ * {@link DataShard#current() configured shard}, so a suite split across workers runs each row on one worker;
+ * with the default single shard every row is kept.
+ */
 public final class DataProviderUtils {
 
     private DataProviderUtils() {
@@ -10,10 +23,166 @@ public final class DataProviderUtils {
     }
 
     public static <T> Object[][] wrapSingleColumn(List<T> data) {
-        return data.stream().map(item -> new Object[]{item}).toArray(Object[][]::new);
+        return shard(data, DataShard.current()).stream().map(item -> new Object[]{item}).toArray(Object[][]::new);
     }
 
     public static Object[][] wrapKeyValue(List<Map<String, String>> data) {
-        return data.stream().map(map -> new Object[]{map}).toArray(Object[][]::new);
+        return shard(data, DataShard.current()).stream().map(map -> new Object[]{map}).toArray(Object[][]::new);
+    }
+
+    /**
+     * Wraps streamed rows for a lazy TestNG {@code @DataProvider} returning {@code Iterator<Object[]>}, so each
+     * row is read only when TestNG is about to run it. Rows of other shards are dropped as they are read.
+     */
+    public static Iterator<Object[]> lazyKeyValue(Iterator<Map<String, String>> rows) {
+        Iterator<Map<String, String>> sharded = shard(rows, DataShard.current());
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return sharded.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return new Object[]{sharded.next()};
+            }
+        };
+    }
+
+    /**
+     * Keeps the rows of a list that belong to the shard.
+     */
+    public static <T> List<T> shard(List<T> rows, DataShard shard) {
+        if (shard.isAll()) {
+            return rows;
+        }
+        List<T> slice = new ArrayList<>(rows.size() / shard.count() + 1);
+        for (int position = 0; position < rows.size(); position++) {
+            T row = rows.get(position);
+            if (shard.includes(position, row)) {
+                slice.add(row);
+            }
+        }
+        return slice;
+    }
+
+    /**
+     * Streams the rows that belong to the shard, skipping the others as they are read.
+     */
+    public static <T> Iterator<T> shard(Iterator<T> rows, DataShard shard) {
+        return shard.isAll() ? rows : new ShardIterator<>(rows, shard);
+    }
+
+    /**
+     * Reads the source once in full and once per shard of the layout, as the workers of a split run would, and
+     * reports whether every row is run by exactly one shard. The supplier must return a fresh iterator over the
+     * same rows in the same order on every call; {@link Closeable} iterators are closed after each read.
+     */
+    public static ShardCoverage verifyShards(Supplier<? extends Iterator<?>> source, DataShard layout) {
+        int[] fingerprints = new int[1024];
+        int rows = 0;
+        Iterator<?> full = source.get();
+        try {
+            while (full.hasNext()) {
+                if (rows == fingerprints.length) {
+                    fingerprints = Arrays.copyOf(fingerprints, rows * 2);
+                }
+                fingerprints[rows++] = Objects.hashCode(full.next());
+            }
+        } finally {
+            close(full);
+        }
+        int[] runs = new int[rows];
+        int extra = 0;
+        int mismatched = 0;
+        List<Integer> shardSizes = new ArrayList<>();
+        for (int index = 0; index < layout.count(); index++) {
+            ShardIterator<?> slice = new ShardIterator<>(source.get(), layout.withIndex(index));
+            int size = 0;
+            try {
+                while (slice.hasNext()) {
+                    Object row = slice.next();
+                    int position = (int) slice.position();
+                    size++;
+                    if (position >= rows) {
+                        extra++;
+                    } else if (fingerprints[position] != Objects.hashCode(row)) {
+                        mismatched++;
+                    } else {
+                        runs[position]++;
+                    }
+                }
+            } finally {
+                close(slice.rows);
+            }
+            shardSizes.add(size);
+        }
+        int missing = 0;
+        int duplicated = extra;
+        for (int count : runs) {
+            if (count == 0) {
+                missing++;
+            } else if (count > 1) {
+                duplicated++;
+            }
+        }
+        return new ShardCoverage(rows, shardSizes, missing, duplicated, mismatched);
+    }
+
+    private static void close(Iterator<?> iterator) {
+        if (iterator instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException exception) {
+                throw new IllegalStateException("Unable to close test data source", exception);
+            }
+        }
+    }
+
+    private static final class ShardIterator<T> implements Iterator<T> {
+
+        private final Iterator<T> rows;
+        private final DataShard shard;
+        private long nextPosition;
+        private long position = -1;
+        private T next;
+        private boolean ready;
+
+        ShardIterator(Iterator<T> rows, DataShard shard) {
+            this.rows = rows;
+            this.shard = shard;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!ready && rows.hasNext()) {
+                T row = rows.next();
+                long rowPosition = nextPosition++;
+                if (shard.includes(rowPosition, row)) {
+                    next = row;
+                    position = rowPosition;
+                    ready = true;
+                }
+            }
+            return ready;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            T row = next;
+            next = null;
+            return row;
+        }
+
+        /**
+         * Source position of the row last returned by {@link #next()}.
+         */
+        long position() {
+            return position;
+        }
     }
 }
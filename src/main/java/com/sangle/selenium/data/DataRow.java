@@ -0,0 +1,190 @@
+package com.sangle.selenium.data;
+
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only test-data row: a value array indexed through the {@link RowSchema} shared by all rows of a source,
+ * instead of a hash map per row that repeats every column name. It is a {@code Map<String, String>} for existing
+ * consumers and adds typed accessors; numeric accessors accept the {@code 21.0} form Excel numbers are read as.
+ */
+public final class DataRow extends AbstractMap<String, String> {
+
+    static final Object ABSENT = new Object();
+
+    private final RowSchema schema;
+    private final Object[] values;
+    private Set<Map.Entry<String, String>> entries;
+
+    DataRow(RowSchema schema, Object[] values) {
+        this.schema = schema;
+        this.values = values;
+    }
+
+    public RowSchema schema() {
+        return schema;
+    }
+
+    @Override
+    public String get(Object column) {
+        int slot = schema.slot(column);
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    @Override
+    public boolean containsKey(Object column) {
+        int slot = schema.slot(column);
+        return slot >= 0 && present(slot);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != ABSENT) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        if (entries == null) {
+            entries = new EntrySet();
+        }
+        return entries;
+    }
+
+    /**
+     * Value of a column that must exist in the row.
+     * @throws IllegalArgumentException when the row has no such column
+     */
+    public String require(String column) {
+        int slot = schema.slot(column);
+        if (slot < 0 || !present(slot)) {
+            throw new IllegalArgumentException("No column '" + column + "' in row " + this);
+        }
+        return valueAt(slot);
+    }
+
+    public int getInt(String column) {
+        String value = require(column).trim();
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException exception) {
+            return new BigDecimal(value).intValueExact();
+        }
+    }
+
+    public long getLong(String column) {
+        String value = require(column).trim();
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException exception) {
+            return new BigDecimal(value).longValueExact();
+        }
+    }
+
+    public double getDouble(String column) {
+        return Double.parseDouble(require(column).trim());
+    }
+
+    public BigDecimal getDecimal(String column) {
+        return new BigDecimal(require(column).trim());
+    }
+
+    public boolean getBoolean(String column) {
+        return Boolean.parseBoolean(require(column).trim());
+    }
+
+    private boolean present(int slot) {
+        return slot < values.length && values[slot] != ABSENT;
+    }
+
+    private String valueAt(int slot) {
+        Object value = slot < values.length ? values[slot] : ABSENT;
+        return value == ABSENT ? null : (String) value;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+
+        @Override
+        public int size() {
+            return DataRow.this.size();
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            return new Iterator<>() {
+                private int slot = advance(0);
+
+                @Override
+                public boolean hasNext() {
+                    return slot < values.length;
+                }
+
+                @Override
+                public Map.Entry<String, String> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Map.Entry<String, String> entry = new SimpleImmutableEntry<>(schema.column(slot), valueAt(slot));
+                    slot = advance(slot + 1);
+                    return entry;
+                }
+
+                private int advance(int from) {
+                    int next = from;
+                    while (next < values.length && values[next] == ABSENT) {
+                        next++;
+                    }
+                    return next;
+                }
+            };
+        }
+    }
+
+    /**
+     * Collects the fields of one row by name; see {@link RowSchema#newRow()}.
+     */
+    public static final class Builder {
+
+        private RowSchema schema;
+        private Object[] values;
+
+        Builder(RowSchema schema) {
+            this.schema = schema;
+            this.values = new Object[schema.size()];
+            Arrays.fill(values, ABSENT);
+        }
+
+        public Builder put(String column, String value) {
+            int slot = schema.slot(column);
+            if (slot < 0) {
+                schema = schema.withColumn(column);
+                slot = schema.size() - 1;
+                values = Arrays.copyOf(values, schema.size());
+            }
+            values[slot] = value;
+            return this;
+        }
+
+        /**
+         * Schema including every column put so far, to start the next row from.
+         */
+        public RowSchema schema() {
+            return schema;
+        }
+
+        public DataRow build() {
+            return new DataRow(schema, values);
+        }
+    }
+}
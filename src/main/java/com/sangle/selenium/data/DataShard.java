@@ -0,0 +1,109 @@
+package com.sangle.selenium.data;
+
+import com.sangle.selenium.config.ConfigManager;
+import com.sangle.selenium.config.FrameworkConfig;
+import com.sangle.selenium.constants.ShardStrategy;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Slice of the test-data rows one worker runs when a data-driven suite is split across CI nodes or JVM forks.
+ * Every worker reads the same source with the same {@code count} and its own {@code index}; each row belongs to
+ * exactly one shard. {@link ShardStrategy#ROUND_ROBIN} assigns rows by position, {@link ShardStrategy#HASH} by a
+ * hash of the {@code keyColumn} value, or of the whole row when no key column is set, so a row keeps its shard
+ * when rows are added or reordered. Hashing relies on {@code hashCode} being the same in every JVM, which holds
+ * for strings, numbers, maps of them and records of them, but not for enums or identity-based objects.
+ */
+public record DataShard(int index, int count, ShardStrategy strategy, String keyColumn) {
+
+    private static final DataShard ALL = new DataShard(0, 1, ShardStrategy.HASH, null);
+
+    public DataShard {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid data shard " + index + " of " + count);
+        }
+        Objects.requireNonNull(strategy, "strategy");
+        keyColumn = keyColumn == null || keyColumn.isBlank() ? null : keyColumn;
+    }
+
+    /**
+     * Shard configured by {@code data.shard.index}, {@code data.shard.count}, {@code data.shard.strategy} and
+     * {@code data.shard.key}, e.g. {@code -Ddata.shard.index=2 -Ddata.shard.count=4}.
+     */
+    public static DataShard current() {
+        FrameworkConfig config = ConfigManager.getConfig();
+        return new DataShard(config.dataShardIndex(), config.dataShardCount(), config.dataShardStrategy(),
+                config.dataShardKey());
+    }
+
+    public static DataShard all() {
+        return ALL;
+    }
+
+    public static DataShard of(int index, int count, ShardStrategy strategy) {
+        return new DataShard(index, count, strategy, null);
+    }
+
+    public DataShard withIndex(int shardIndex) {
+        return new DataShard(shardIndex, count, strategy, keyColumn);
+    }
+
+    public boolean isAll() {
+        return count == 1;
+    }
+
+    /**
+     * Whether the row at a zero-based position of its source belongs to this shard.
+     */
+    public boolean includes(long position, Object row) {
+        return count == 1 || shardOf(position, row) == index;
+    }
+
+    /**
+     * Shard the row at a zero-based position of its source belongs to.
+     * @throws IllegalArgumentException when hashing by a key column the row does not have
+     */
+    public int shardOf(long position, Object row) {
+        if (strategy == ShardStrategy.ROUND_ROBIN) {
+            return (int) Math.floorMod(position, (long) count);
+        }
+        return Math.floorMod(mix(hash(key(row))), count);
+    }
+
+    /**
+     * Hash of a value; maps sum their mixed entry hashes, as close column values cancel out in a plain sum.
+     */
+    private static int hash(Object value) {
+        if (!(value instanceof Map<?, ?> map)) {
+            return Objects.hashCode(value);
+        }
+        int hash = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            hash += mix(Objects.hashCode(entry.getKey()) * 31 + Objects.hashCode(entry.getValue()));
+        }
+        return hash;
+    }
+
+    private Object key(Object row) {
+        if (keyColumn == null) {
+            return row;
+        }
+        if (!(row instanceof Map<?, ?> map) || !map.containsKey(keyColumn)) {
+            throw new IllegalArgumentException("No shard key column '" + keyColumn + "' in row " + row);
+        }
+        return map.get(keyColumn);
+    }
+
+    /**
+     * Spreads hash codes that differ only in a few bits, such as those of numbered user names, over all shards.
+     */
+    private static int mix(int hash) {
+        int mixed = hash;
+        mixed ^= mixed >>> 16;
+        mixed *= 0x85ebca6b;
+        mixed ^= mixed >>> 13;
+        mixed *= 0xc2b2ae35;
+        mixed ^= mixed >>> 16;
+        return mixed;
+    }
+}
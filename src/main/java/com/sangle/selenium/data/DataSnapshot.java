@@ -0,0 +1,344 @@
+package com.sangle.selenium.data;
+
+import com.sangle.selenium.config.ConfigManager;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Binary copy of a parsed test-data source, memory-mapped for random access without parsing. A snapshot holds
+ * the column names, one string-table index per cell and a table of distinct UTF-8 strings; a row is decoded only
+ * when it is read. Snapshots live in {@code data.snapshot.dir}, record the modification time and size of their
+ * source, and are rebuilt by the next {@link #open} after the source changes. Builds go through a temporary
+ * file and an atomic rename, so parallel threads and forks only ever map complete snapshots.
+ */
+public final class DataSnapshot {
+
+    private static final int MAGIC = 0x54445332;
+    private static final int HEADER_BYTES = 4 + 8 + 8 + 4 + 4 + 4 + 8 + 8 + 8;
+    private static final int ABSENT_CELL = -1;
+    private static final int NULL_CELL = -2;
+    private static final int MAX_DEDUPLICATED_STRINGS = 1 << 17;
+    private static final Map<Path, Object> BUILD_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final RowSchema schema;
+    private final int rowCount;
+    private final ByteBuffer cells;
+    private final ByteBuffer stringOffsets;
+    private final ByteBuffer strings;
+
+    private DataSnapshot(Path file, RowSchema schema, int rowCount, ByteBuffer cells, ByteBuffer stringOffsets,
+                         ByteBuffer strings) {
+        this.file = file;
+        this.schema = schema;
+        this.rowCount = rowCount;
+        this.cells = cells;
+        this.stringOffsets = stringOffsets;
+        this.strings = strings;
+    }
+
+    /**
+     * Maps the snapshot of a source, building it first when it is missing or older than the source.
+     * @param source data file the snapshot is taken from
+     * @param variant what is read from the source, e.g. the format or a sheet name
+     * @param rows reads the source rows when the snapshot has to be built
+     */
+    public static DataSnapshot open(Path source, String variant,
+                                    Supplier<? extends Iterator<? extends Map<String, String>>> rows) {
+        Path absolute = source.toAbsolutePath().normalize();
+        Path file = snapshotFile(absolute, variant);
+        try {
+            long modified = Files.getLastModifiedTime(absolute).toMillis();
+            long size = Files.size(absolute);
+            DataSnapshot snapshot = map(file, modified, size);
+            if (snapshot != null) {
+                return snapshot;
+            }
+            synchronized (BUILD_LOCKS.computeIfAbsent(file, key -> new Object())) {
+                snapshot = map(file, modified, size);
+                if (snapshot == null) {
+                    build(file, modified, size, rows.get());
+                    snapshot = map(file, modified, size);
+                }
+            }
+            if (snapshot == null) {
+                throw new IllegalStateException("Snapshot was rebuilt but does not match " + absolute);
+            }
+            return snapshot;
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to open data snapshot of " + source, exception);
+        }
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public RowSchema schema() {
+        return schema;
+    }
+
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Decodes one row.
+     */
+    public DataRow row(int index) {
+        if (index < 0 || index >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + index + " of " + rowCount);
+        }
+        int columns = schema.size();
+        Object[] values = new Object[columns];
+        int position = index * columns * Integer.BYTES;
+        for (int column = 0; column < columns; column++) {
+            int cell = cells.getInt(position + column * Integer.BYTES);
+            values[column] = cell == ABSENT_CELL ? DataRow.ABSENT : cell == NULL_CELL ? null : string(cell);
+        }
+        return new DataRow(schema, values);
+    }
+
+    /**
+     * All rows as a random-access list that decodes each row when it is read.
+     */
+    public List<Map<String, String>> rows() {
+        return new Rows();
+    }
+
+    private String string(int index) {
+        int start = stringOffsets.getInt(index * Integer.BYTES);
+        byte[] bytes = new byte[stringOffsets.getInt((index + 1) * Integer.BYTES) - start];
+        strings.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Path snapshotFile(Path source, String variant) {
+        String name = (source.getFileName() + "_" + variant).replaceAll("[^a-zA-Z0-9_-]", "_");
+        return Paths.get(ConfigManager.getConfig().dataSnapshotDir(),
+                name + "_" + Integer.toHexString(source.toString().hashCode()) + ".tds");
+    }
+
+    /**
+     * Maps a snapshot file when it exists and was taken from the given source version.
+     */
+    private static DataSnapshot map(Path file, long modified, long size) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                return null;
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getLong() != modified || header.getLong() != size) {
+                return null;
+            }
+            int columnCount = header.getInt();
+            int rowCount = header.getInt();
+            int stringCount = header.getInt();
+            long cellsOffset = header.getLong();
+            long stringOffsetsOffset = header.getLong();
+            long stringsOffset = header.getLong();
+            MappedByteBuffer columns = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES,
+                    cellsOffset - HEADER_BYTES);
+            String[] names = new String[columnCount];
+            for (int column = 0; column < columnCount; column++) {
+                byte[] bytes = new byte[columns.getInt()];
+                columns.get(bytes);
+                names[column] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return new DataSnapshot(file, RowSchema.of(names), rowCount,
+                    section(channel, cellsOffset, stringOffsetsOffset),
+                    section(channel, stringOffsetsOffset, stringsOffset),
+                    section(channel, stringsOffset, channel.size()));
+        }
+    }
+
+    private static MappedByteBuffer section(FileChannel channel, long start, long end) throws IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot section exceeds 2 GB");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    }
+
+    /**
+     * Writes the snapshot of the given rows. Cells and strings are spooled to temporary files first, because the
+     * final column count is only known after the last row of sources whose rows can add columns.
+     */
+    private static void build(Path file, long modified, long size, Iterator<? extends Map<String, String>> rows)
+            throws IOException {
+        Files.createDirectories(file.getParent());
+        Path cellsFile = Files.createTempFile(file.getParent(), "cells", ".tmp");
+        Path stringsFile = Files.createTempFile(file.getParent(), "strings", ".tmp");
+        Path target = Files.createTempFile(file.getParent(), "snapshot", ".tmp");
+        try {
+            Map<String, Integer> columns = new HashMap<>();
+            List<String> columnNames = new ArrayList<>();
+            Map<String, Integer> deduplicated = new HashMap<>();
+            int[] offsets = new int[1024];
+            int stringCount = 0;
+            int stringBytes = 0;
+            int rowCount = 0;
+            try (DataOutputStream cellsOut = output(cellsFile); OutputStream stringsOut = output(stringsFile)) {
+                int[] rowCells = new int[16];
+                while (rows.hasNext()) {
+                    Map<String, String> row = rows.next();
+                    Arrays.fill(rowCells, ABSENT_CELL);
+                    for (Map.Entry<String, String> entry : row.entrySet()) {
+                        Integer column = columns.get(entry.getKey());
+                        if (column == null) {
+                            column = columnNames.size();
+                            columns.put(entry.getKey(), column);
+                            columnNames.add(entry.getKey());
+                        }
+                        if (column >= rowCells.length) {
+                            int previous = rowCells.length;
+                            rowCells = Arrays.copyOf(rowCells, Math.max(column + 1, previous * 2));
+                            Arrays.fill(rowCells, previous, rowCells.length, ABSENT_CELL);
+                        }
+                        String value = entry.getValue();
+                        if (value == null) {
+                            rowCells[column] = NULL_CELL;
+                            continue;
+                        }
+                        Integer index = deduplicated.get(value);
+                        if (index == null) {
+                            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                            if (stringBytes > Integer.MAX_VALUE - bytes.length) {
+                                throw new IOException("Snapshot strings exceed 2 GB");
+                            }
+                            stringsOut.write(bytes);
+                            if (stringCount + 1 >= offsets.length) {
+                                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                            }
+                            offsets[stringCount] = stringBytes;
+                            stringBytes += bytes.length;
+                            index = stringCount++;
+                            if (deduplicated.size() < MAX_DEDUPLICATED_STRINGS) {
+                                deduplicated.put(value, index);
+                            }
+                        }
+                        rowCells[column] = index;
+                    }
+                    cellsOut.writeInt(columnNames.size());
+                    for (int column = 0; column < columnNames.size(); column++) {
+                        cellsOut.writeInt(rowCells[column]);
+                    }
+                    rowCount++;
+                }
+                offsets[stringCount] = stringBytes;
+            } finally {
+                if (rows instanceof AutoCloseable closeable) {
+                    closeQuietly(closeable);
+                }
+            }
+            writeSnapshot(target, modified, size, columnNames, rowCount, cellsFile, offsets, stringCount,
+                    stringsFile);
+            try {
+                Files.move(target, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(target, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(cellsFile);
+            Files.deleteIfExists(stringsFile);
+            Files.deleteIfExists(target);
+        }
+    }
+
+    /**
+     * Assembles the final file: header, column names, fixed-width cells padded to the final column count,
+     * string offsets and string bytes.
+     */
+    private static void writeSnapshot(Path target, long modified, long size, List<String> columnNames, int rowCount,
+                                      Path cellsFile, int[] offsets, int stringCount, Path stringsFile)
+            throws IOException {
+        int columnCount = columnNames.size();
+        byte[][] names = new byte[columnCount][];
+        long columnBytes = 0;
+        for (int column = 0; column < columnCount; column++) {
+            names[column] = columnNames.get(column).getBytes(StandardCharsets.UTF_8);
+            columnBytes += Integer.BYTES + names[column].length;
+        }
+        long cellsOffset = HEADER_BYTES + columnBytes;
+        long stringOffsetsOffset = cellsOffset + (long) rowCount * columnCount * Integer.BYTES;
+        long stringsOffset = stringOffsetsOffset + (long) (stringCount + 1) * Integer.BYTES;
+        try (DataOutputStream out = output(target);
+             DataInputStream cellsIn = new DataInputStream(
+                     new BufferedInputStream(Files.newInputStream(cellsFile), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeLong(modified);
+            out.writeLong(size);
+            out.writeInt(columnCount);
+            out.writeInt(rowCount);
+            out.writeInt(stringCount);
+            out.writeLong(cellsOffset);
+            out.writeLong(stringOffsetsOffset);
+            out.writeLong(stringsOffset);
+            for (byte[] name : names) {
+                out.writeInt(name.length);
+                out.write(name);
+            }
+            for (int row = 0; row < rowCount; row++) {
+                int written = cellsIn.readInt();
+                for (int column = 0; column < columnCount; column++) {
+                    out.writeInt(column < written ? cellsIn.readInt() : ABSENT_CELL);
+                }
+            }
+            for (int index = 0; index <= stringCount; index++) {
+                out.writeInt(offsets[index]);
+            }
+            Files.copy(stringsFile, out);
+        }
+    }
+
+    private static DataOutputStream output(Path path) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16));
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception exception) {
+            // The rows were read completely or the build already failed; nothing to add.
+        }
+    }
+
+    private final class Rows extends AbstractList<Map<String, String>> implements RandomAccess {
+
+        @Override
+        public Map<String, String> get(int index) {
+            return row(index);
+        }
+
+        @Override
+        public int size() {
+            return rowCount;
+        }
+    }
+}
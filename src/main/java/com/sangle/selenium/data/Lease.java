@@ -0,0 +1,55 @@
+package com.sangle.selenium.data;
+
+import java.time.Duration;
+
+/**
+ * Exclusive use of one pooled entity until {@link #close()}. Leases are also released by
+ * {@link LeasePool#releaseAll()} at the end of the test that took them.
+ */
+public final class Lease<T> implements AutoCloseable {
+
+    private final LeasePool<T> pool;
+    private final LeasePool.Slot<T> slot;
+    private final Duration waitTime;
+    private final Thread owner = Thread.currentThread();
+    private volatile boolean released;
+
+    Lease(LeasePool<T> pool, LeasePool.Slot<T> slot, Duration waitTime) {
+        this.pool = pool;
+        this.slot = slot;
+        this.waitTime = waitTime;
+    }
+
+    public T value() {
+        if (released) {
+            throw new IllegalStateException("Lease on " + slot.key() + " was already released");
+        }
+        return slot.value();
+    }
+
+    public String key() {
+        return slot.key();
+    }
+
+    /**
+     * How long the acquisition waited for a free entity.
+     */
+    public Duration waitTime() {
+        return waitTime;
+    }
+
+    Thread owner() {
+        return owner;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            released = true;
+        }
+        pool.release(this, slot);
+    }
+}
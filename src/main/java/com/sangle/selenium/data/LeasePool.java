@@ -0,0 +1,325 @@
+package com.sangle.selenium.data;
+
+import com.sangle.selenium.config.ConfigManager;
+import com.sangle.selenium.config.FrameworkConfig;
+import com.sangle.selenium.utils.CsvHelper;
+import com.sangle.selenium.utils.JsonHelper;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Hands out exclusive use of shared test entities, such as accounts, to parallel tests. Within the JVM a free
+ * entity goes to one test at a time; across JVMs, such as surefire forks, each lease also holds a file lock under
+ * {@code lease.dir}, so forks sharing a working directory never lease the same entity. An entity locked by another
+ * JVM is skipped and retried every {@code lease.poll.millis} while waiting. Leases taken by a test are released by
+ * {@link #releaseAll()} in {@code BaseTest.tearDown}, or earlier by closing them.
+ * <pre>
+ * private static final LeasePool&lt;Map&lt;String, String&gt;&gt; ACCOUNTS =
+ *         LeasePool.fromCsvResource("accounts", "test-data/accounts.csv", "username");
+ *
+ * Map&lt;String, String&gt; account = ACCOUNTS.acquire().value();
+ * </pre>
+ */
+public final class LeasePool<T> {
+
+    private static final FrameworkConfig CONFIG = ConfigManager.getConfig();
+    private static final Pattern NOT_FILE_SAFE = Pattern.compile("[^A-Za-z0-9._-]");
+    private static final List<LeasePool<?>> POOLS = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<List<Lease<?>>> THREAD_LEASES = ThreadLocal.withInitial(ArrayList::new);
+
+    private final String name;
+    private final int size;
+    private final Path lockDirectory;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Deque<Slot<T>> free = new ArrayDeque<>();
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private int inUse;
+    private int peakInUse;
+
+    private LeasePool(String name, List<T> values, Function<? super T, String> key) {
+        this.name = name;
+        this.size = values.size();
+        this.lockDirectory = Paths.get(CONFIG.leaseDir(), NOT_FILE_SAFE.matcher(name).replaceAll("_"));
+        Set<String> keys = new HashSet<>();
+        for (T value : values) {
+            String slotKey = key.apply(value);
+            if (slotKey == null || !keys.add(slotKey)) {
+                throw new IllegalArgumentException("Lease pool " + name + " needs a unique key per entity: " + slotKey);
+            }
+            free.add(new Slot<>(slotKey, value, lockDirectory.resolve(lockFileName(slotKey))));
+        }
+        if (free.isEmpty()) {
+            throw new IllegalArgumentException("Lease pool " + name + " has no entities");
+        }
+        try {
+            Files.createDirectories(lockDirectory);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to create lease directory " + lockDirectory, exception);
+        }
+    }
+
+    public static <T> LeasePool<T> of(String name, List<T> values, Function<? super T, String> key) {
+        LeasePool<T> pool = new LeasePool<>(name, values, key);
+        POOLS.add(pool);
+        return pool;
+    }
+
+    /**
+     * Pools the rows of a CSV file, keyed by a column that is unique per row.
+     */
+    public static LeasePool<Map<String, String>> fromCsv(String name, Path path, String keyColumn) {
+        return of(name, CsvHelper.readAsMaps(path), row -> row.get(keyColumn));
+    }
+
+    public static LeasePool<Map<String, String>> fromCsvResource(String name, String resource, String keyColumn) {
+        return of(name, CsvHelper.readAsMapsFromResource(resource), row -> row.get(keyColumn));
+    }
+
+    /**
+     * Pools the elements of a JSON array resource, keyed by a value that is unique per element.
+     */
+    public static <T> LeasePool<T> fromJsonResource(String name, String resource, Class<T> type,
+                                                    Function<? super T, String> key) {
+        return of(name, JsonHelper.readListFromClasspath(resource, type), key);
+    }
+
+    /**
+     * Releases the leases the current thread still holds; called after every test.
+     */
+    public static void releaseAll() {
+        List<Lease<?>> held = THREAD_LEASES.get();
+        if (held.isEmpty()) {
+            return;
+        }
+        for (Lease<?> lease : new ArrayList<>(held)) {
+            lease.close();
+        }
+        held.clear();
+    }
+
+    public static List<LeaseStats> allStats() {
+        return POOLS.stream().map(LeasePool::stats).toList();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Waits up to {@code lease.timeout.seconds} for a free entity.
+     * @throws IllegalStateException when none becomes free in time
+     */
+    public Lease<T> acquire() {
+        return acquire(Duration.ofSeconds(CONFIG.leaseTimeoutSeconds()));
+    }
+
+    /**
+     * Waits up to the timeout for a free entity.
+     * @throws IllegalStateException when none becomes free in time
+     */
+    public Lease<T> acquire(Duration timeout) {
+        return tryAcquire(timeout).orElseThrow(() -> new IllegalStateException(
+                "No entity of lease pool " + name + " became free within " + timeout.toMillis() + "ms"));
+    }
+
+    /**
+     * Waits up to the timeout for a free entity.
+     * @return the lease, or empty when none became free in time
+     */
+    public Optional<Lease<T>> tryAcquire(Duration timeout) {
+        long started = System.nanoTime();
+        long deadline = started + timeout.toNanos();
+        long pollNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, CONFIG.leasePollMillis()));
+        lock.lock();
+        try {
+            while (true) {
+                Slot<T> slot = takeFree();
+                if (slot != null) {
+                    return Optional.of(lease(slot, System.nanoTime() - started));
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    timeouts.increment();
+                    return Optional.empty();
+                }
+                // Entities locked by other JVMs are not signalled, so wake up to poll them.
+                released.awaitNanos(Math.min(remaining, pollNanos));
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for lease pool " + name, exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public LeaseStats stats() {
+        long count = leases.sum();
+        int peak;
+        lock.lock();
+        try {
+            peak = peakInUse;
+        } finally {
+            lock.unlock();
+        }
+        return new LeaseStats(name, size, count, waited.sum(), timeouts.sum(),
+                count == 0 ? 0 : waitNanos.sum() / 1_000_000.0 / count, maxWaitNanos.get() / 1_000_000.0, peak);
+    }
+
+    void release(Lease<T> lease, Slot<T> slot) {
+        if (lease.owner() == Thread.currentThread()) {
+            THREAD_LEASES.get().remove(lease);
+        }
+        slot.unlock();
+        lock.lock();
+        try {
+            inUse--;
+            free.addLast(slot);
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the first free entity that no other JVM holds; caller holds {@link #lock}.
+     */
+    private Slot<T> takeFree() {
+        for (Iterator<Slot<T>> slots = free.iterator(); slots.hasNext(); ) {
+            Slot<T> slot = slots.next();
+            if (slot.tryLock()) {
+                slots.remove();
+                inUse++;
+                peakInUse = Math.max(peakInUse, inUse);
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    private Lease<T> lease(Slot<T> slot, long waitedNanos) {
+        leases.increment();
+        waitNanos.add(waitedNanos);
+        maxWaitNanos.accumulateAndGet(waitedNanos, Math::max);
+        if (waitedNanos >= TimeUnit.MILLISECONDS.toNanos(1)) {
+            waited.increment();
+        }
+        Lease<T> lease = new Lease<>(this, slot, Duration.ofNanos(waitedNanos));
+        THREAD_LEASES.get().add(lease);
+        return lease;
+    }
+
+    private static String lockFileName(String key) {
+        return NOT_FILE_SAFE.matcher(key).replaceAll("_") + "-" + Integer.toHexString(key.hashCode()) + ".lock";
+    }
+
+    /**
+     * One pooled entity and, while it is leased, the file lock that keeps other JVMs from leasing it.
+     */
+    static final class Slot<T> {
+
+        /**
+         * Lock files this JVM holds. A second channel must never be opened on one of them: closing it would drop
+         * every lock the process holds on the file, including the one the other pool's lease depends on.
+         */
+        private static final Set<Path> LOCKED = ConcurrentHashMap.newKeySet();
+
+        private final String key;
+        private final T value;
+        private final Path lockFile;
+        private FileChannel channel;
+        private FileLock fileLock;
+
+        Slot(String key, T value, Path lockFile) {
+            this.key = key;
+            this.value = value;
+            this.lockFile = lockFile.toAbsolutePath().normalize();
+        }
+
+        String key() {
+            return key;
+        }
+
+        T value() {
+            return value;
+        }
+
+        boolean tryLock() {
+            if (!LOCKED.add(lockFile)) {
+                // Another pool over the same entities in this JVM holds it.
+                return false;
+            }
+            boolean locked = false;
+            try {
+                FileChannel opened = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                FileLock acquired = opened.tryLock();
+                if (acquired == null) {
+                    opened.close();
+                    return false;
+                }
+                channel = opened;
+                fileLock = acquired;
+                locked = true;
+                return true;
+            } catch (IOException exception) {
+                throw new IllegalStateException("Unable to lock " + lockFile, exception);
+            } finally {
+                if (!locked) {
+                    LOCKED.remove(lockFile);
+                }
+            }
+        }
+
+        void unlock() {
+            try {
+                if (fileLock != null) {
+                    fileLock.release();
+                }
+                if (channel != null) {
+                    channel.close();
+                }
+            } catch (IOException exception) {
+                throw new IllegalStateException("Unable to unlock " + lockFile, exception);
+            } finally {
+                if (channel != null || fileLock != null) {
+                    LOCKED.remove(lockFile);
+                }
+                fileLock = null;
+                channel = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.sangle.selenium.data;
+
+/**
+ * Lease counters of one {@link LeasePool} since the start of the run. A pool whose leases often wait, or whose
+ * peak use equals its size, is too small for the number of parallel tests.
+ */
+public record LeaseStats(
+        String pool,
+        int size,
+        long leases,
+        long waited,
+        long timeouts,
+        double averageWaitMillis,
+        double maxWaitMillis,
+        int peakInUse
+) {
+
+    @Override
+    public String toString() {
+        return String.format("%s: size=%d, leases=%d, waited=%d, timeouts=%d, avgWait=%.1fms, maxWait=%.1fms, "
+                + "peakInUse=%d", pool, size, leases, waited, timeouts, averageWaitMillis, maxWaitMillis, peakInUse);
+    }
+}
@@ -0,0 +1,283 @@
+package com.sangle.selenium.data;
+
+import com.sangle.selenium.constants.EnvironmentType;
+import com.sangle.selenium.constants.TestCategory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Columns and row conditions that the test-data readers apply while parsing: rows failing a condition are skipped
+ * before a row object is built, and columns outside the projection are never converted or stored. Queries are
+ * immutable; every method returns a new query.
+ * <pre>
+ * RowQuery.all().select("username", "password", "role").forEnvironment(EnvironmentType.QA)
+ * </pre>
+ */
+public final class RowQuery {
+
+    /**
+     * Column listing the environments a row applies to; a blank value applies to all of them.
+     */
+    public static final String ENVIRONMENT_COLUMN = "environment";
+
+    /**
+     * Column listing the test categories a row belongs to.
+     */
+    public static final String CATEGORY_COLUMN = "category";
+
+    private static final Pattern LIST_SEPARATOR = Pattern.compile("[,;| ]+");
+    private static final RowQuery ALL = new RowQuery(null, List.of(), "all");
+
+    private final List<String> columns;
+    private final List<Condition> conditions;
+    private final String key;
+
+    private RowQuery(List<String> columns, List<Condition> conditions, String key) {
+        this.columns = columns;
+        this.conditions = conditions;
+        this.key = key;
+    }
+
+    public static RowQuery all() {
+        return ALL;
+    }
+
+    /**
+     * Keeps only the given columns in the returned rows.
+     */
+    public RowQuery select(String... selected) {
+        List<String> projection = List.copyOf(new LinkedHashSet<>(Arrays.asList(selected)));
+        return new RowQuery(projection, conditions, key + "|select" + projection);
+    }
+
+    /**
+     * Keeps rows whose column equals the expected value, ignoring case.
+     */
+    public RowQuery where(String column, String expected) {
+        return with(new Condition(column, expected::equalsIgnoreCase, column + "=" + expected));
+    }
+
+    /**
+     * Keeps rows whose column value satisfies the predicate; the value is null when the row has no such column.
+     * Queries with custom predicates are only cached per query instance, so keep them in constants.
+     */
+    public RowQuery where(String column, Predicate<String> predicate) {
+        return with(new Condition(column, predicate,
+                column + "~" + predicate.getClass().getName() + "@" + System.identityHashCode(predicate)));
+    }
+
+    /**
+     * Keeps rows whose {@value #ENVIRONMENT_COLUMN} column lists the environment or is blank.
+     */
+    public RowQuery forEnvironment(EnvironmentType environment) {
+        return with(new Condition(ENVIRONMENT_COLUMN, value -> value == null || value.isBlank()
+                || listed(value, environment.name()), ENVIRONMENT_COLUMN + "@" + environment));
+    }
+
+    /**
+     * Keeps rows whose {@value #CATEGORY_COLUMN} column lists the category.
+     */
+    public RowQuery forCategory(TestCategory category) {
+        return with(new Condition(CATEGORY_COLUMN, value -> value != null && listed(value, category.name()),
+                CATEGORY_COLUMN + "@" + category));
+    }
+
+    public boolean isAll() {
+        return columns == null && conditions.isEmpty();
+    }
+
+    /**
+     * Identifies the query in cache keys and snapshot names.
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Binds the query to a source whose rows are value arrays in header order.
+     */
+    public Positional bind(List<String> header) {
+        return new Positional(header);
+    }
+
+    /**
+     * Binds the query to a source whose rows are read field by field, such as JSON objects.
+     */
+    public Named named() {
+        return new Named();
+    }
+
+    private RowQuery with(Condition condition) {
+        List<Condition> extended = new ArrayList<>(conditions);
+        extended.add(condition);
+        return new RowQuery(columns, List.copyOf(extended), key + "|" + condition.key());
+    }
+
+    private static boolean listed(String value, String expected) {
+        for (String item : LIST_SEPARATOR.split(value.trim())) {
+            if (item.equalsIgnoreCase(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(Condition[] conditions, String[] values) {
+        for (int index = 0; index < conditions.length; index++) {
+            if (!conditions[index].predicate().test(values[index])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Condition(String column, Predicate<String> predicate, String key) {
+    }
+
+    /**
+     * Query bound to a header: decides which positions have to be read and turns matching value arrays into rows.
+     */
+    public final class Positional {
+
+        private final RowSchema schema;
+        private final Condition[] boundConditions;
+        private final int[] conditionPositions;
+        private final int[] projection;
+        private final boolean[] needed;
+        private final String[] conditionValues;
+
+        private Positional(List<String> header) {
+            Map<String, Integer> positions = new HashMap<>();
+            for (int position = 0; position < header.size(); position++) {
+                positions.put(header.get(position), position);
+            }
+            boundConditions = conditions.toArray(Condition[]::new);
+            conditionPositions = new int[boundConditions.length];
+            conditionValues = new String[boundConditions.length];
+            for (int index = 0; index < boundConditions.length; index++) {
+                conditionPositions[index] = positions.getOrDefault(boundConditions[index].column(), -1);
+            }
+            if (columns == null) {
+                schema = RowSchema.of(header);
+                projection = null;
+                needed = null;
+                return;
+            }
+            List<String> present = new ArrayList<>();
+            List<Integer> presentPositions = new ArrayList<>();
+            for (String column : columns) {
+                Integer position = positions.get(column);
+                if (position != null) {
+                    present.add(column);
+                    presentPositions.add(position);
+                }
+            }
+            schema = RowSchema.of(present);
+            projection = presentPositions.stream().mapToInt(Integer::intValue).toArray();
+            needed = new boolean[header.size()];
+            for (int position : projection) {
+                needed[position] = true;
+            }
+            for (int position : conditionPositions) {
+                if (position >= 0) {
+                    needed[position] = true;
+                }
+            }
+        }
+
+        /**
+         * Whether the value at a header position is used by the projection or a condition.
+         */
+        public boolean needs(int position) {
+            return needed == null || (position < needed.length && needed[position]);
+        }
+
+        /**
+         * Builds the projected row from values in header order.
+         * @return the row, or null when it fails a condition
+         */
+        public DataRow apply(String[] values) {
+            for (int index = 0; index < conditionPositions.length; index++) {
+                int position = conditionPositions[index];
+                conditionValues[index] = position >= 0 && position < values.length ? values[position] : null;
+            }
+            if (!matches(boundConditions, conditionValues)) {
+                return null;
+            }
+            if (projection == null) {
+                return schema.row(values);
+            }
+            Object[] projected = new Object[projection.length];
+            for (int slot = 0; slot < projection.length; slot++) {
+                projected[slot] = projection[slot] < values.length ? values[projection[slot]] : DataRow.ABSENT;
+            }
+            return new DataRow(schema, projected);
+        }
+    }
+
+    /**
+     * Query bound to a source read field by field. Use {@link #needs(String)} to skip fields, {@link #put} for
+     * the others and {@link #finish()} at the end of each row.
+     */
+    public final class Named {
+
+        private final Condition[] boundConditions = conditions.toArray(Condition[]::new);
+        private final Map<String, int[]> conditionIndexes = new HashMap<>();
+        private final Set<String> projected = columns == null ? null : Set.copyOf(columns);
+        private final String[] conditionValues = new String[boundConditions.length];
+        private RowSchema schema = columns == null ? RowSchema.of() : RowSchema.of(columns);
+        private DataRow.Builder row;
+
+        private Named() {
+            // A column can carry several conditions; each one gets the value in its own slot.
+            for (int index = 0; index < boundConditions.length; index++) {
+                int[] current = conditionIndexes.getOrDefault(boundConditions[index].column(), new int[0]);
+                int[] extended = Arrays.copyOf(current, current.length + 1);
+                extended[current.length] = index;
+                conditionIndexes.put(boundConditions[index].column(), extended);
+            }
+        }
+
+        public boolean needs(String field) {
+            return projected == null || projected.contains(field) || conditionIndexes.containsKey(field);
+        }
+
+        public void put(String field, String value) {
+            int[] conditions = conditionIndexes.get(field);
+            if (conditions != null) {
+                for (int condition : conditions) {
+                    conditionValues[condition] = value;
+                }
+            }
+            if (projected == null || projected.contains(field)) {
+                if (row == null) {
+                    row = schema.newRow();
+                }
+                row.put(field, value);
+            }
+        }
+
+        /**
+         * Ends the current row.
+         * @return the row, or null when it fails a condition
+         */
+        public DataRow finish() {
+            DataRow.Builder finished = row == null ? schema.newRow() : row;
+            row = null;
+            boolean matches = matches(boundConditions, conditionValues);
+            Arrays.fill(conditionValues, null);
+            if (!matches) {
+                return null;
+            }
+            schema = finished.schema();
+            return finished.build();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.sangle.selenium.data;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column layout shared by all {@link DataRow}s read from one source: interned column names and their slot in
+ * the value array of each row. A header that repeats a column name maps to the same slot, so the last value
+ * wins as it would when putting into a map. Schemas are immutable; {@link #withColumn(String)} returns an
+ * extended copy for sources such as JSON whose rows can introduce new fields.
+ */
+public final class RowSchema {
+
+    private final String[] columns;
+    private final Map<String, Integer> slots;
+    private final int[] positions;
+
+    private RowSchema(String[] columns, Map<String, Integer> slots, int[] positions) {
+        this.columns = columns;
+        this.slots = slots;
+        this.positions = positions;
+    }
+
+    /**
+     * Creates a schema from a header row in file order.
+     */
+    public static RowSchema of(List<String> header) {
+        return of(header.toArray(String[]::new));
+    }
+
+    /**
+     * Creates a schema from a header row in file order.
+     */
+    public static RowSchema of(String... header) {
+        Map<String, Integer> slots = new HashMap<>();
+        String[] columns = new String[header.length];
+        int[] positions = new int[header.length];
+        int size = 0;
+        boolean duplicates = false;
+        for (int position = 0; position < header.length; position++) {
+            Integer slot = slots.get(header[position]);
+            if (slot == null) {
+                slot = size;
+                columns[size++] = header[position] == null ? null : header[position].intern();
+                slots.put(columns[slot], slot);
+            } else {
+                duplicates = true;
+            }
+            positions[position] = slot;
+        }
+        return new RowSchema(Arrays.copyOf(columns, size), slots, duplicates ? positions : null);
+    }
+
+    public int size() {
+        return columns.length;
+    }
+
+    public String column(int slot) {
+        return columns[slot];
+    }
+
+    /**
+     * Slot of a column, or -1 when the schema has no such column.
+     */
+    public int slot(Object column) {
+        Integer slot = slots.get(column);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Returns this schema extended by one column, or this schema when it already has the column.
+     */
+    public RowSchema withColumn(String column) {
+        if (slots.containsKey(column)) {
+            return this;
+        }
+        String[] extended = Arrays.copyOf(columns, columns.length + 1);
+        extended[columns.length] = column.intern();
+        Map<String, Integer> extendedSlots = new HashMap<>(slots);
+        extendedSlots.put(extended[columns.length], columns.length);
+        return new RowSchema(extended, extendedSlots, null);
+    }
+
+    /**
+     * Creates a row from values in header order. Values beyond the header are ignored and columns beyond the
+     * values are absent from the row. The array is kept by the row and must not be modified afterwards.
+     */
+    public DataRow row(String[] values) {
+        if (positions == null) {
+            return new DataRow(this, values.length > columns.length ? Arrays.copyOf(values, columns.length) : values);
+        }
+        Object[] slotted = new Object[columns.length];
+        Arrays.fill(slotted, DataRow.ABSENT);
+        for (int position = 0; position < values.length && position < positions.length; position++) {
+            slotted[positions[position]] = values[position];
+        }
+        return new DataRow(this, slotted);
+    }
+
+    /**
+     * Starts a row whose columns are set by name, extending the schema for names it does not have yet.
+     */
+    public DataRow.Builder newRow() {
+        return new DataRow.Builder(this);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sangle.selenium.data;
+
+import java.util.List;
+
+/**
+ * Outcome of {@link DataProviderUtils#verifyShards}: how many source rows there are, how many each shard ran,
+ * how many rows no shard ran, how many more than one shard ran, and how many rows a shard saw at a position
+ * where the full read had a different row.
+ */
+public record ShardCoverage(int rows, List<Integer> shardSizes, int missing, int duplicated, int mismatched) {
+
+    public ShardCoverage {
+        shardSizes = List.copyOf(shardSizes);
+    }
+
+    /**
+     * Whether the union of the shards is every row exactly once.
+     */
+    public boolean isComplete() {
+        return missing == 0 && duplicated == 0 && mismatched == 0;
+    }
+}
@@ -0,0 +1,255 @@
+package com.sangle.selenium.data;
+
+import com.sangle.selenium.config.ConfigManager;
+import com.sangle.selenium.config.FrameworkConfig;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide cache of parsed test data shared by all threads. Entries are keyed by source and by what was
+ * parsed from it, and remember the modification time and size of the source, so an edited file is parsed again
+ * on its next use. Loading is single-flight: threads asking for the same entry while it is parsed wait for that
+ * one parse instead of starting their own. Cached lists are unmodifiable and maps in them are read-only; other
+ * elements are handed out as they are, so callers caching mutable objects copy them on the way out, as
+ * {@code JsonHelper} does for bound beans. The total number of cached rows is bounded by
+ * {@code data.cache.max.rows}, evicting the least recently used entries first.
+ */
+public final class TestDataCache {
+
+    private static final FrameworkConfig CONFIG = ConfigManager.getConfig();
+    private static final Map<Key, Entry> ENTRIES = new ConcurrentHashMap<>();
+    private static final AtomicLong CLOCK = new AtomicLong();
+    private static final AtomicLong CACHED_ROWS = new AtomicLong();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder LOADS = new LongAdder();
+    private static final LongAdder RELOADS = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+    private static final LongAdder PARSE_NANOS = new LongAdder();
+    private static final LongAdder SAVED_NANOS = new LongAdder();
+
+    private TestDataCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static boolean isEnabled() {
+        return CONFIG.dataCacheEnabled();
+    }
+
+    /**
+     * Returns the cached rows of a classpath resource, parsing it with {@code loader} when it is not cached or
+     * has changed since.
+     * @param resource classpath resource the rows come from
+     * @param variant what is parsed from the resource, e.g. a sheet name or target type
+     * @param loader parses the resource
+     */
+    public static <T> List<T> resource(String resource, String variant, Supplier<List<T>> loader) {
+        if (!isEnabled()) {
+            return loader.get();
+        }
+        URL url = Thread.currentThread().getContextClassLoader().getResource(resource);
+        return get(new Key("resource:" + resource, variant), url == null ? Version.UNKNOWN : versionOf(url), loader);
+    }
+
+    /**
+     * Returns the cached rows of a file, parsing it with {@code loader} when it is not cached or has changed since.
+     * @param path file the rows come from
+     * @param variant what is parsed from the file, e.g. a sheet name or target type
+     * @param loader parses the file
+     */
+    public static <T> List<T> file(Path path, String variant, Supplier<List<T>> loader) {
+        if (!isEnabled()) {
+            return loader.get();
+        }
+        Path absolute = path.toAbsolutePath().normalize();
+        return get(new Key("file:" + absolute, variant), versionOf(absolute), loader);
+    }
+
+    /**
+     * Drops every cached entry.
+     */
+    public static void clear() {
+        ENTRIES.keySet().forEach(key -> {
+            Entry removed = ENTRIES.remove(key);
+            if (removed != null) {
+                removed.discard();
+            }
+        });
+    }
+
+    public static DataCacheStats stats() {
+        return new DataCacheStats(HITS.sum(), LOADS.sum(), RELOADS.sum(), EVICTIONS.sum(), ENTRIES.size(),
+                CACHED_ROWS.get(), PARSE_NANOS.sum() / 1_000_000.0, SAVED_NANOS.sum() / 1_000_000.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> get(Key key, Version version, Supplier<List<T>> loader) {
+        while (true) {
+            Entry current = ENTRIES.get(key);
+            if (current != null && current.version.equals(version)) {
+                List<T> rows = (List<T>) await(key, current);
+                HITS.increment();
+                SAVED_NANOS.add(current.parseNanos);
+                current.lastAccess = CLOCK.incrementAndGet();
+                return rows;
+            }
+            Entry fresh = new Entry(version);
+            boolean claimed = current == null
+                    ? ENTRIES.putIfAbsent(key, fresh) == null
+                    : ENTRIES.replace(key, current, fresh);
+            if (!claimed) {
+                continue;
+            }
+            if (current != null) {
+                RELOADS.increment();
+                current.discard();
+            }
+            return load(key, fresh, loader);
+        }
+    }
+
+    private static <T> List<T> load(Key key, Entry entry, Supplier<List<T>> loader) {
+        long start = System.nanoTime();
+        List<T> rows;
+        try {
+            rows = readOnly(loader.get());
+        } catch (RuntimeException | Error exception) {
+            ENTRIES.remove(key, entry);
+            entry.discard();
+            entry.future.completeExceptionally(exception);
+            throw exception;
+        }
+        entry.parseNanos = System.nanoTime() - start;
+        entry.lastAccess = CLOCK.incrementAndGet();
+        LOADS.increment();
+        PARSE_NANOS.add(entry.parseNanos);
+        entry.count(rows.size());
+        entry.future.complete(rows);
+        evictIfNeeded(key);
+        return rows;
+    }
+
+    /**
+     * Waits for an entry loaded by another thread; a failed load is rethrown to every thread that waited for it.
+     */
+    private static List<?> await(Key key, Entry entry) {
+        try {
+            return entry.future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for test data " + key, exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Unable to load test data " + key, exception.getCause());
+        }
+    }
+
+    private static void evictIfNeeded(Key loaded) {
+        long maxRows = CONFIG.dataCacheMaxRows();
+        if (CACHED_ROWS.get() <= maxRows) {
+            return;
+        }
+        List<Map.Entry<Key, Entry>> candidates = new ArrayList<>(ENTRIES.entrySet());
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+        for (Map.Entry<Key, Entry> candidate : candidates) {
+            if (CACHED_ROWS.get() <= maxRows) {
+                return;
+            }
+            if (candidate.getKey().equals(loaded) || !candidate.getValue().future.isDone()) {
+                continue;
+            }
+            if (ENTRIES.remove(candidate.getKey(), candidate.getValue())) {
+                candidate.getValue().discard();
+                EVICTIONS.increment();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> readOnly(List<T> rows) {
+        List<T> copy = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            copy.add(row instanceof Map<?, ?> map && !(row instanceof DataRow) ? (T) Collections.unmodifiableMap(map) : row);
+        }
+        return Collections.unmodifiableList(copy);
+    }
+
+    private static Version versionOf(Path path) {
+        try {
+            return new Version(Files.getLastModifiedTime(path).toMillis(), Files.size(path));
+        } catch (IOException exception) {
+            return Version.UNKNOWN;
+        }
+    }
+
+    private static Version versionOf(URL url) {
+        try {
+            URLConnection connection = url.openConnection();
+            connection.setUseCaches(false);
+            Version version = new Version(connection.getLastModified(), connection.getContentLengthLong());
+            connection.getInputStream().close();
+            return version;
+        } catch (IOException exception) {
+            return Version.UNKNOWN;
+        }
+    }
+
+    private record Key(String source, String variant) {
+    }
+
+    private record Version(long lastModified, long size) {
+
+        private static final Version UNKNOWN = new Version(-1, -1);
+    }
+
+    /**
+     * A cached source. Its rows count towards {@link #CACHED_ROWS} only from the end of its load until it leaves
+     * the map; an entry replaced or evicted while still loading is never counted.
+     */
+    private static final class Entry {
+
+        private static final int LOADING = 0;
+        private static final int COUNTED = 1;
+        private static final int DISCARDED = 2;
+
+        private final Version version;
+        private final CompletableFuture<List<?>> future = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(LOADING);
+        private volatile long parseNanos;
+        private volatile int rows;
+        private volatile long lastAccess;
+
+        Entry(Version version) {
+            this.version = version;
+        }
+
+        void count(int loadedRows) {
+            rows = loadedRows;
+            if (state.compareAndSet(LOADING, COUNTED)) {
+                CACHED_ROWS.addAndGet(loadedRows);
+            }
+        }
+
+        void discard() {
+            if (state.getAndSet(DISCARDED) == COUNTED) {
+                CACHED_ROWS.addAndGet(-rows);
+            }
+        }
+    }
+}
@@ -2,9 +2,12 @@ package com.sangle.selenium.driver;
 
 import com.sangle.selenium.config.ConfigManager;
 import com.sangle.selenium.config.FrameworkConfig;
+import com.sangle.selenium.tracing.TraceCategory;
+import com.sangle.selenium.tracing.TraceRecorder;
 import java.time.Duration;
 import java.util.Objects;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 
 public final class DriverManager {
 
@@ -19,7 +22,17 @@ public final class DriverManager {
             return;
         }
         FrameworkConfig config = ConfigManager.getConfig();
-        WebDriver driver = new WebDriverFactory().createWebDriver(config);
+        WebDriver driver;
+        TraceRecorder.begin(TraceCategory.DRIVER, "initDriver", config.browserType());
+        try {
+            driver = new WebDriverFactory().createWebDriver(config);
+        } finally {
+            TraceRecorder.end(TraceCategory.DRIVER, "initDriver");
+        }
+        VideoRecorder.attach(driver);
+        if (TraceRecorder.isEnabled()) {
+            driver = new EventFiringDecorator<>(new TracingDriverListener()).decorate(driver);
+        }
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.implicitTimeoutSeconds()));
         driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(config.explicitTimeoutSeconds()));
         if (!config.headless()) {
@@ -39,7 +52,13 @@ public final class DriverManager {
     public static void quitDriver() {
         WebDriver driver = DRIVER.get();
         if (Objects.nonNull(driver)) {
-            driver.quit();
+            TraceRecorder.begin(TraceCategory.DRIVER, "quitDriver", null);
+            try {
+                VideoRecorder.detach();
+                driver.quit();
+            } finally {
+                TraceRecorder.end(TraceCategory.DRIVER, "quitDriver");
+            }
             DRIVER.remove();
         }
     }
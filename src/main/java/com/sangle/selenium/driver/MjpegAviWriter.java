@@ -0,0 +1,177 @@
+package com.sangle.selenium.driver;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Streams JPEG frames into a Motion-JPEG AVI file without re-encoding them. The file runs at a fixed frame
+ * rate; gaps between frames are filled with empty chunks, which players treat as "repeat the previous frame",
+ * so idle periods cost a few bytes instead of duplicated images. Header sizes are patched on {@link #close()}.
+ */
+final class MjpegAviWriter implements Closeable {
+
+    private static final int HEADER_SIZE = 224;
+    private static final int MOVI_LIST_OFFSET = 212;
+    private static final int KEY_FRAME = 0x10;
+
+    private final FileChannel channel;
+    private final int framesPerSecond;
+    private final ByteBuffer chunkHeader = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+    private int[] index = new int[1024];
+    private int frames;
+    private long moviBytes = 4;
+    private int width;
+    private int height;
+    private int maxFrameBytes;
+
+    MjpegAviWriter(Path path, int framesPerSecond) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        this.framesPerSecond = Math.max(1, framesPerSecond);
+        channel.write(ByteBuffer.allocate(HEADER_SIZE), 0);
+        channel.position(HEADER_SIZE);
+    }
+
+    int frames() {
+        return frames;
+    }
+
+    /**
+     * Writes a frame at the given slot, padding earlier empty slots. Frames for a slot that is already written
+     * are ignored.
+     * @param jpeg frame data
+     * @param slot zero-based frame number derived from the frame timestamp
+     * @return whether the frame was written
+     */
+    boolean writeFrame(byte[] jpeg, int slot) throws IOException {
+        if (slot < frames) {
+            return false;
+        }
+        while (frames < slot) {
+            writeChunk(null, 0);
+        }
+        if (width == 0) {
+            readDimensions(jpeg);
+        }
+        writeChunk(jpeg, KEY_FRAME);
+        maxFrameBytes = Math.max(maxFrameBytes, jpeg.length);
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            ByteBuffer idx = ByteBuffer.allocate(8 + frames * 16).order(ByteOrder.LITTLE_ENDIAN);
+            idx.put(fourCc("idx1")).putInt(frames * 16);
+            for (int frame = 0; frame < frames; frame++) {
+                idx.put(fourCc("00dc")).putInt(index[frame * 2 + 1] == 0 ? 0 : KEY_FRAME)
+                        .putInt(index[frame * 2]).putInt(index[frame * 2 + 1]);
+            }
+            idx.flip();
+            channel.write(idx, channel.position());
+            long fileSize = channel.size();
+            channel.write(header(fileSize), 0);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeChunk(byte[] data, int flags) throws IOException {
+        int size = data == null ? 0 : data.length;
+        if ((frames + 1) * 2 > index.length) {
+            index = Arrays.copyOf(index, index.length * 2);
+        }
+        index[frames * 2] = (int) moviBytes;
+        index[frames * 2 + 1] = size;
+        chunkHeader.clear();
+        chunkHeader.put(fourCc("00dc")).putInt(size).flip();
+        channel.write(chunkHeader);
+        moviBytes += 8;
+        if (data != null) {
+            channel.write(ByteBuffer.wrap(data));
+            moviBytes += size;
+            if ((size & 1) == 1) {
+                channel.write(ByteBuffer.wrap(new byte[1]));
+                moviBytes++;
+            }
+        }
+        frames++;
+    }
+
+    private ByteBuffer header(long fileSize) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(fourCc("RIFF")).putInt((int) (fileSize - 8)).put(fourCc("AVI "));
+        header.put(fourCc("LIST")).putInt(192).put(fourCc("hdrl"));
+        header.put(fourCc("avih")).putInt(56)
+                .putInt(1_000_000 / framesPerSecond)
+                .putInt(maxFrameBytes * framesPerSecond)
+                .putInt(0)
+                .putInt(KEY_FRAME)
+                .putInt(frames)
+                .putInt(0)
+                .putInt(1)
+                .putInt(maxFrameBytes)
+                .putInt(width)
+                .putInt(height)
+                .putInt(0).putInt(0).putInt(0).putInt(0);
+        header.put(fourCc("LIST")).putInt(116).put(fourCc("strl"));
+        header.put(fourCc("strh")).putInt(56)
+                .put(fourCc("vids")).put(fourCc("MJPG"))
+                .putInt(0)
+                .putShort((short) 0).putShort((short) 0)
+                .putInt(0)
+                .putInt(1)
+                .putInt(framesPerSecond)
+                .putInt(0)
+                .putInt(frames)
+                .putInt(maxFrameBytes)
+                .putInt(-1)
+                .putInt(0)
+                .putShort((short) 0).putShort((short) 0).putShort((short) width).putShort((short) height);
+        header.put(fourCc("strf")).putInt(40)
+                .putInt(40)
+                .putInt(width)
+                .putInt(height)
+                .putShort((short) 1)
+                .putShort((short) 24)
+                .put(fourCc("MJPG"))
+                .putInt(width * height * 3)
+                .putInt(0).putInt(0).putInt(0).putInt(0);
+        header.position(MOVI_LIST_OFFSET);
+        header.put(fourCc("LIST")).putInt((int) moviBytes).put(fourCc("movi"));
+        header.flip();
+        return header;
+    }
+
+    /**
+     * Reads the frame size from the JPEG start-of-frame marker.
+     */
+    private void readDimensions(byte[] jpeg) {
+        int position = 2;
+        while (position + 9 < jpeg.length) {
+            if ((jpeg[position] & 0xFF) != 0xFF) {
+                position++;
+                continue;
+            }
+            int marker = jpeg[position + 1] & 0xFF;
+            int length = ((jpeg[position + 2] & 0xFF) << 8) | (jpeg[position + 3] & 0xFF);
+            if (marker >= 0xC0 && marker <= 0xC3) {
+                height = ((jpeg[position + 5] & 0xFF) << 8) | (jpeg[position + 6] & 0xFF);
+                width = ((jpeg[position + 7] & 0xFF) << 8) | (jpeg[position + 8] & 0xFF);
+                return;
+            }
+            position += 2 + length;
+        }
+    }
+
+    private static byte[] fourCc(String code) {
+        return code.getBytes(StandardCharsets.US_ASCII);
+    }
+}
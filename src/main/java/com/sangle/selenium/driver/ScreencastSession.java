@@ -0,0 +1,241 @@
+package com.sangle.selenium.driver;
+
+import com.sangle.selenium.config.FrameworkConfig;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.JsonInput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * One screencast recording of a Chromium tab. DevTools frame events are only queued on the connection thread;
+ * acknowledgements go out on a separate thread, and a background encoder writes the frames into an MJPEG AVI.
+ * When the encoder falls behind, frames that do not fit into the queue are skipped and only the newest queued
+ * frame is written, so recording never waits on the test.
+ */
+final class ScreencastSession {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScreencastSession.class);
+    private static final Frame END_OF_STREAM = new Frame(null, 0, 0);
+    private static final long STOP_TIMEOUT_MILLIS = 10_000;
+
+    private final DevTools devTools;
+    private final Path file;
+    private final int framesPerSecond;
+    private final BlockingQueue<Frame> frames;
+    private final ExecutorService acknowledger;
+    private final Thread encoder;
+    private final AtomicInteger received = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicLong listenerNanos = new AtomicLong();
+    private volatile long encoderNanos;
+    private volatile int written;
+    private volatile long writtenBytes;
+    private volatile IOException failure;
+    private volatile boolean stopped;
+    private double firstTimestamp = -1;
+
+    private ScreencastSession(DevTools devTools, Path file, int framesPerSecond, int queueSize) {
+        this.devTools = devTools;
+        this.file = file;
+        this.framesPerSecond = Math.max(1, framesPerSecond);
+        this.frames = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        this.acknowledger = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "screencast-ack"));
+        this.encoder = daemon(this::encode, "screencast-encoder");
+    }
+
+    /**
+     * Starts a screencast of the current tab.
+     * @param devTools DevTools connection of the driver
+     * @param file temporary AVI file
+     */
+    static ScreencastSession start(DevTools devTools, Path file, FrameworkConfig config) throws IOException {
+        Files.createDirectories(file.getParent());
+        ScreencastSession session = new ScreencastSession(devTools, file, config.videoFps(), config.videoQueueSize());
+        session.encoder.start();
+        devTools.createSessionIfThereIsNotOne();
+        devTools.addListener(new Event<>("Page.screencastFrame", ScreencastSession::readFrame), session::onFrame);
+        devTools.send(new Command<>("Page.startScreencast", Map.of(
+                "format", "jpeg",
+                "quality", config.videoQuality(),
+                "maxWidth", config.videoMaxWidth(),
+                "maxHeight", config.videoMaxWidth())));
+        return session;
+    }
+
+    /**
+     * Stops the screencast and waits for the encoder to finish the file.
+     * @return frames written, or -1 when the encoder failed
+     */
+    int stop() {
+        // DevTools can only clear every listener of the shared connection, so this session's listener stays
+        // registered and ignores the frames that still arrive.
+        stopped = true;
+        try {
+            devTools.send(new Command<>("Page.stopScreencast", Map.of()));
+        } catch (RuntimeException exception) {
+            LOG.debug("Unable to stop screencast: {}", exception.getMessage());
+        }
+        acknowledger.shutdownNow();
+        // Keep the newest frame: it shows the screen at the end of the test, which is what the recording is for.
+        Frame last = null;
+        for (Frame frame; (frame = frames.poll()) != null; ) {
+            if (last != null) {
+                skipped.incrementAndGet();
+            }
+            last = frame;
+        }
+        try {
+            if (last != null) {
+                frames.offer(last, STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            frames.offer(END_OF_STREAM, STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            encoder.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            LOG.warn("Screencast recording failed: {}", failure.getMessage());
+            return -1;
+        }
+        return written;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    int received() {
+        return received.get();
+    }
+
+    int skipped() {
+        return skipped.get();
+    }
+
+    long writtenBytes() {
+        return writtenBytes;
+    }
+
+    long listenerNanos() {
+        return listenerNanos.get();
+    }
+
+    long encoderNanos() {
+        return encoderNanos;
+    }
+
+    private void onFrame(Frame frame) {
+        if (stopped) {
+            return;
+        }
+        long start = System.nanoTime();
+        received.incrementAndGet();
+        if (!frames.offer(frame)) {
+            skipped.incrementAndGet();
+        }
+        acknowledger.execute(() -> acknowledge(frame.sessionId()));
+        listenerNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    private void acknowledge(int sessionId) {
+        try {
+            devTools.send(new Command<>("Page.screencastFrameAck", Map.of("sessionId", sessionId)));
+        } catch (RuntimeException exception) {
+            LOG.debug("Unable to acknowledge screencast frame: {}", exception.getMessage());
+        }
+    }
+
+    private void encode() {
+        long busyNanos = 0;
+        try (MjpegAviWriter writer = new MjpegAviWriter(file, framesPerSecond)) {
+            Frame frame;
+            while ((frame = latest(frames.take())) != END_OF_STREAM) {
+                long start = System.nanoTime();
+                byte[] jpeg = Base64.getDecoder().decode(frame.data());
+                if (firstTimestamp < 0) {
+                    firstTimestamp = frame.timestamp();
+                }
+                int slot = (int) Math.round((frame.timestamp() - firstTimestamp) * framesPerSecond);
+                if (writer.writeFrame(jpeg, slot)) {
+                    written++;
+                    writtenBytes += jpeg.length;
+                } else {
+                    skipped.incrementAndGet();
+                }
+                busyNanos += System.nanoTime() - start;
+                encoderNanos = busyNanos;
+            }
+        } catch (IOException exception) {
+            failure = exception;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Drops queued frames the encoder has fallen behind on and keeps the newest one. The end of the stream is left
+     * queued, so the last frame before it is still written.
+     */
+    private Frame latest(Frame frame) {
+        Frame newer;
+        while (frame != END_OF_STREAM && (newer = frames.peek()) != null && newer != END_OF_STREAM) {
+            frames.poll();
+            skipped.incrementAndGet();
+            frame = newer;
+        }
+        return frame;
+    }
+
+    private static Frame readFrame(JsonInput input) {
+        String data = null;
+        double timestamp = 0;
+        int sessionId = 0;
+        input.beginObject();
+        while (input.hasNext()) {
+            switch (input.nextName()) {
+                case "data" -> data = input.nextString();
+                case "sessionId" -> sessionId = input.nextNumber().intValue();
+                case "metadata" -> {
+                    input.beginObject();
+                    while (input.hasNext()) {
+                        if ("timestamp".equals(input.nextName())) {
+                            timestamp = input.nextNumber().doubleValue();
+                        } else {
+                            input.skipValue();
+                        }
+                    }
+                    input.endObject();
+                }
+                default -> input.skipValue();
+            }
+        }
+        input.endObject();
+        return new Frame(data, timestamp, sessionId);
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Screencast frame as received: base64 JPEG data, capture time in seconds and the id to acknowledge.
+     */
+    private record Frame(String data, double timestamp, int sessionId) {
+    }
+}
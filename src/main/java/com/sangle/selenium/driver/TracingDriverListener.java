@@ -0,0 +1,28 @@
+package com.sangle.selenium.driver;
+
+import com.sangle.selenium.tracing.TraceCategory;
+import com.sangle.selenium.tracing.TraceRecorder;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * Records every WebDriver, WebElement and navigation call as a driver span of the current thread's trace.
+ */
+final class TracingDriverListener implements WebDriverListener {
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        TraceRecorder.begin(TraceCategory.DRIVER, method.getName(), args == null || args.length == 0 ? null : args[0]);
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        TraceRecorder.end(TraceCategory.DRIVER, method.getName());
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException exception) {
+        TraceRecorder.end(TraceCategory.DRIVER, method.getName());
+    }
+}
@@ -0,0 +1,158 @@
+package com.sangle.selenium.driver;
+
+import com.sangle.selenium.config.ConfigManager;
+import com.sangle.selenium.config.FrameworkConfig;
+import com.sangle.selenium.constants.FrameworkConstants;
+import io.qameta.allure.Allure;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records a video of each test through the Chromium DevTools screencast. The browser pushes JPEG frames, which
+ * are written into an MJPEG AVI by a background thread, so the test thread only pays for starting and stopping
+ * the screencast. Videos of passed tests are deleted; videos of failed tests are kept under
+ * {@code target/videos} and attached to the Allure report. Browsers without DevTools are not recorded.
+ */
+public final class VideoRecorder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VideoRecorder.class);
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+    private static final FrameworkConfig CONFIG = ConfigManager.getConfig();
+    private static final ThreadLocal<DevTools> DEV_TOOLS = new ThreadLocal<>();
+    private static final ThreadLocal<ScreencastSession> SESSION = new ThreadLocal<>();
+    private static final ThreadLocal<Long> TEST_THREAD_NANOS = new ThreadLocal<>();
+
+    private VideoRecorder() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static boolean isEnabled() {
+        return CONFIG.videoEnabled();
+    }
+
+    /**
+     * Remembers the DevTools connection of a freshly created driver; must be the undecorated driver.
+     */
+    static void attach(WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (driver instanceof HasDevTools hasDevTools) {
+            DEV_TOOLS.set(hasDevTools.getDevTools());
+        } else {
+            LOG.debug("Video recording skipped, {} has no DevTools support", driver.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Closes the DevTools connection of the current thread's driver before it quits.
+     */
+    static void detach() {
+        stopSession();
+        DevTools devTools = DEV_TOOLS.get();
+        if (devTools != null) {
+            try {
+                devTools.close();
+            } catch (RuntimeException exception) {
+                LOG.debug("Unable to close DevTools session: {}", exception.getMessage());
+            }
+            DEV_TOOLS.remove();
+        }
+    }
+
+    /**
+     * Starts recording the test running on the current thread.
+     */
+    public static void startTest() {
+        DevTools devTools = DEV_TOOLS.get();
+        if (devTools == null) {
+            return;
+        }
+        stopSession();
+        long start = System.nanoTime();
+        Path file = Paths.get("target", FrameworkConstants.VIDEO_DIR,
+                ".recording_" + Thread.currentThread().getId() + "_" + start + ".avi");
+        try {
+            SESSION.set(ScreencastSession.start(devTools, file, CONFIG));
+        } catch (IOException | RuntimeException exception) {
+            LOG.warn("Unable to start video recording: {}", exception.getMessage());
+        }
+        TEST_THREAD_NANOS.set(System.nanoTime() - start);
+    }
+
+    /**
+     * Stops recording the test running on the current thread and keeps the video only when it failed.
+     * @param testName name used for the persisted video
+     * @param passed whether the test passed
+     * @return recording outcome, or null when nothing was recorded
+     */
+    public static VideoRecording finishTest(String testName, boolean passed) {
+        ScreencastSession session = SESSION.get();
+        if (session == null) {
+            return null;
+        }
+        SESSION.remove();
+        long start = System.nanoTime();
+        int written = session.stop();
+        long testThreadNanos = TEST_THREAD_NANOS.get() + System.nanoTime() - start;
+        TEST_THREAD_NANOS.remove();
+        Path video = null;
+        if (!passed && written > 0) {
+            video = persist(testName, session.file());
+        }
+        deleteQuietly(session.file());
+        VideoRecording recording = new VideoRecording(video, session.received(), Math.max(0, written),
+                session.skipped(), session.writtenBytes(), TimeUnit.NANOSECONDS.toMillis(testThreadNanos),
+                TimeUnit.NANOSECONDS.toMillis(session.listenerNanos()),
+                TimeUnit.NANOSECONDS.toMillis(session.encoderNanos()));
+        LOG.debug("Video of {}: {}", testName, recording);
+        return recording;
+    }
+
+    private static Path persist(String testName, Path recorded) {
+        Path video = recorded.resolveSibling(testName.replaceAll("[^a-zA-Z0-9_-]", "_") + "_"
+                + FORMATTER.format(LocalDateTime.now()) + ".avi");
+        try {
+            Files.move(recorded, video, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException exception) {
+            LOG.warn("Failed to keep video of {}: {}", testName, exception.getMessage());
+            return null;
+        }
+        try (InputStream stream = Files.newInputStream(video)) {
+            Allure.addAttachment(testName + " (video)", "video/x-msvideo", stream, "avi");
+        } catch (IOException | IllegalStateException exception) {
+            LOG.debug("Unable to attach video to Allure: {}", exception.getMessage());
+        }
+        return video;
+    }
+
+    private static void stopSession() {
+        ScreencastSession session = SESSION.get();
+        if (session != null) {
+            SESSION.remove();
+            TEST_THREAD_NANOS.remove();
+            session.stop();
+            deleteQuietly(session.file());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            LOG.debug("Unable to delete {}: {}", file, exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.sangle.selenium.driver;
+
+import java.nio.file.Path;
+
+/**
+ * Outcome of recording one test.
+ * @param video persisted video, or null when the test passed or the recording failed
+ * @param framesReceived screencast frames delivered by the browser
+ * @param framesWritten frames written to the video
+ * @param framesSkipped frames dropped because the encoder fell behind or they fell into an already written slot
+ * @param videoBytes JPEG bytes written to the video
+ * @param testThreadMillis time the test thread spent starting and stopping the screencast
+ * @param listenerMillis time spent on the DevTools connection thread handling frames
+ * @param encoderMillis time the background encoder spent writing frames
+ */
+public record VideoRecording(Path video, int framesReceived, int framesWritten, int framesSkipped, long videoBytes,
+                             long testThreadMillis, long listenerMillis, long encoderMillis) {
+}
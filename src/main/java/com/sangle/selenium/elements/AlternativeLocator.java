@@ -0,0 +1,151 @@
+package com.sangle.selenium.elements;
+
+import java.util.Map;
+import java.util.Objects;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.locators.RelativeLocator;
+
+/**
+ * Fallback locator used by {@link LocatorHealer} when the primary locator of an element no longer matches.
+ * Every alternative is translated into a browser-side query so that all of them can be evaluated in a single
+ * script execution instead of waiting for each one to time out.
+ */
+public record AlternativeLocator(Strategy strategy, String query, String anchor, Position position) {
+
+    /**
+     * Strategy used to express the alternative; reported when the alternative wins.
+     * {@code PRIMARY} identifies the element's own locator and cannot be used for alternatives.
+     */
+    public enum Strategy {
+        PRIMARY,
+        ID,
+        TEST_ID,
+        CSS,
+        XPATH,
+        TEXT,
+        RELATIVE
+    }
+
+    /**
+     * Position of the target relative to an anchor element.
+     */
+    public enum Position {
+        ABOVE,
+        BELOW,
+        LEFT_OF,
+        RIGHT_OF,
+        NEAR
+    }
+
+    private static final String TEST_ID_ATTRIBUTE = "data-testid";
+
+    public AlternativeLocator {
+        Objects.requireNonNull(strategy, "Strategy cannot be null");
+        Objects.requireNonNull(query, "Query cannot be null");
+        if (strategy == Strategy.PRIMARY) {
+            throw new IllegalArgumentException("PRIMARY is reserved for the element's own locator");
+        }
+    }
+
+    public static AlternativeLocator byId(String id) {
+        return new AlternativeLocator(Strategy.ID, attributeSelector("id", id), null, null);
+    }
+
+    public static AlternativeLocator byTestId(String testId) {
+        return new AlternativeLocator(Strategy.TEST_ID, attributeSelector(TEST_ID_ATTRIBUTE, testId), null, null);
+    }
+
+    public static AlternativeLocator byTestId(String attributeName, String testId) {
+        return new AlternativeLocator(Strategy.TEST_ID, attributeSelector(attributeName, testId), null, null);
+    }
+
+    public static AlternativeLocator byCss(String cssSelector) {
+        return new AlternativeLocator(Strategy.CSS, cssSelector, null, null);
+    }
+
+    public static AlternativeLocator byXpath(String xpath) {
+        return new AlternativeLocator(Strategy.XPATH, xpath, null, null);
+    }
+
+    public static AlternativeLocator byText(String text) {
+        return byText("*", text);
+    }
+
+    public static AlternativeLocator byText(String tagName, String text) {
+        String xpath = "//" + tagName + "[normalize-space(.)=" + xpathLiteral(text.trim())
+                + " and not(./*[normalize-space(.)=" + xpathLiteral(text.trim()) + "])]";
+        return new AlternativeLocator(Strategy.TEXT, xpath, null, null);
+    }
+
+    /**
+     * Target matched by CSS, picked as the closest match positioned relative to a uniquely matching anchor.
+     */
+    public static AlternativeLocator relative(String targetCss, Position position, String anchorCss) {
+        return new AlternativeLocator(Strategy.RELATIVE, targetCss,
+                Objects.requireNonNull(anchorCss, "Anchor cannot be null"),
+                Objects.requireNonNull(position, "Position cannot be null"));
+    }
+
+    /**
+     * Selenium locator equivalent, used for the regular waits once this alternative has won.
+     */
+    public By toBy() {
+        return switch (strategy) {
+            case ID, TEST_ID, CSS -> By.cssSelector(query);
+            case XPATH, TEXT -> By.xpath(query);
+            case PRIMARY -> throw new IllegalStateException("Primary locator is not an alternative");
+            case RELATIVE -> {
+                RelativeLocator.RelativeBy target = RelativeLocator.with(By.cssSelector(query));
+                By anchorBy = By.cssSelector(anchor);
+                yield switch (position) {
+                    case ABOVE -> target.above(anchorBy);
+                    case BELOW -> target.below(anchorBy);
+                    case LEFT_OF -> target.toLeftOf(anchorBy);
+                    case RIGHT_OF -> target.toRightOf(anchorBy);
+                    case NEAR -> target.near(anchorBy);
+                };
+            }
+        };
+    }
+
+    /**
+     * Descriptor consumed by the healing script.
+     */
+    Map<String, String> toScriptArgument() {
+        String type = switch (strategy) {
+            case ID, TEST_ID, CSS -> "css";
+            case XPATH, TEXT -> "xpath";
+            case RELATIVE -> "relative";
+            case PRIMARY -> throw new IllegalStateException("Primary locator is not an alternative");
+        };
+        if (strategy == Strategy.RELATIVE) {
+            return Map.of("type", type, "query", query, "anchor", anchor, "position", position.name());
+        }
+        return Map.of("type", type, "query", query);
+    }
+
+    /**
+     * Stable key identifying this alternative in the persisted healing store.
+     */
+    public String key() {
+        if (strategy == Strategy.RELATIVE) {
+            return strategy + ":" + query + "|" + position + "|" + anchor;
+        }
+        return strategy + ":" + query;
+    }
+
+    private static String attributeSelector(String attribute, String value) {
+        String escaped = value.replace("\\", "\\\\").replace("\"", "\\\"");
+        return "[" + attribute + "=\"" + escaped + "\"]";
+    }
+
+    private static String xpathLiteral(String value) {
+        if (!value.contains("'")) {
+            return "'" + value + "'";
+        }
+        if (!value.contains("\"")) {
+            return "\"" + value + "\"";
+        }
+        return "concat('" + value.replace("'", "',\"'\",'") + "')";
+    }
+}
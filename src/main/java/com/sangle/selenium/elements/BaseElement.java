@@ -1,5 +1,6 @@
 package com.sangle.selenium.elements;
 
+import com.sangle.selenium.config.ConfigManager;
 import com.sangle.selenium.driver.DriverManager;
 import com.sangle.selenium.exceptions.ElementNotFoundException;
 import com.sangle.selenium.exceptions.OperationInterruptedException;
@@ -7,29 +8,48 @@ import com.sangle.selenium.exceptions.RetryableException;
 import com.sangle.selenium.logging.StepLogger;
 import com.sangle.selenium.utils.RetryUtils;
 import com.sangle.selenium.utils.WaitUtils;
+import com.sangle.selenium.visual.IgnoreRegion;
+import com.sangle.selenium.visual.VisualValidator;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
 import org.openqa.selenium.By;
 import org.openqa.selenium.ElementClickInterceptedException;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 public abstract class BaseElement {
 
     private final By locator;
     private final String name;
     private final ElementStateManager stateManager;
+    private final List<AlternativeLocator> alternatives;
+    private final LocatorHealer healer;
 
     protected BaseElement(By locator, String name) {
+        this(locator, name, new AlternativeLocator[0]);
+    }
+
+    /**
+     * Creates an element that falls back to alternative locators when its primary locator stops matching.
+     * @param locator primary locator
+     * @param name element name used in logs and reports
+     * @param alternatives fallback locators evaluated together with the primary locator
+     */
+    protected BaseElement(By locator, String name, AlternativeLocator... alternatives) {
         this.locator = Objects.requireNonNull(locator, "Locator cannot be null");
         this.name = Objects.requireNonNullElseGet(name, locator::toString);
         this.stateManager = new ElementStateManager(this.name);
+        this.alternatives = List.of(alternatives);
+        this.healer = this.alternatives.isEmpty() ? null : new LocatorHealer(this.name, locator, this.alternatives);
     }
 
     protected BaseElement(By locator) {
@@ -41,15 +61,44 @@ public abstract class BaseElement {
     }
 
     protected WebElement getVisibleElement() {
-        return getSmartElement(() -> WaitUtils.waitForVisibility(getDriver(), locator));
+        if (!healing()) {
+            return getSmartElement(() -> WaitUtils.waitForVisibility(getDriver(), locator));
+        }
+        return getSmartElement(() -> WaitUtils.waitForVisibility(getDriver(), this::healedElement));
     }
 
     protected WebElement getClickableElement() {
-        return getSmartElement(() -> WaitUtils.waitForClickable(getDriver(), locator));
+        if (!healing()) {
+            return getSmartElement(() -> WaitUtils.waitForClickable(getDriver(), locator));
+        }
+        return getSmartElement(() -> WaitUtils.waitUntil(getDriver(),
+                driver -> ExpectedConditions.elementToBeClickable(healedElement(driver)).apply(driver)));
     }
 
     protected WebElement getPresentElement() {
-        return getSmartElement(() -> WaitUtils.waitForPresence(getDriver(), locator));
+        if (!healing()) {
+            return getSmartElement(() -> WaitUtils.waitForPresence(getDriver(), locator));
+        }
+        return getSmartElement(() -> WaitUtils.waitUntil(getDriver(), this::healedElement));
+    }
+
+    private boolean healing() {
+        return healer != null && ConfigManager.getConfig().healingEnabled();
+    }
+
+    /**
+     * Evaluates the primary locator and all alternatives together in one browser pass, so a broken primary
+     * locator no longer costs the full explicit wait. The matched element is used as it is rather than looked up
+     * again, which would cost another round trip and could resolve a different element.
+     * @return element of the winning candidate
+     * @throws NoSuchElementException when no candidate matches yet, so the surrounding wait keeps polling
+     */
+    protected WebElement healedElement(WebDriver driver) {
+        LocatorHealer.HealedLocator healed = healer.locate(driver);
+        if (healed == null) {
+            throw new NoSuchElementException("No locator matches element '" + name + "' yet");
+        }
+        return healed.element();
     }
 
     /**
@@ -187,6 +236,10 @@ public abstract class BaseElement {
         return locator;
     }
 
+    public List<AlternativeLocator> getAlternativeLocators() {
+        return alternatives;
+    }
+
     public String getName() {
         return name;
     }
@@ -324,6 +377,20 @@ public abstract class BaseElement {
         validate().countEquals(this, expectedCount, message);
         return this;
     }
+    
+    /**
+     * Validates that a screenshot of this element matches its visual baseline
+     * @param baselineName baseline file name
+     * @param message validation message
+     * @param ignoredRegions regions, relative to the element, excluded from the comparison
+     * @return this element for method chaining
+     */
+    public BaseElement shouldMatchVisualBaseline(String baselineName, String message, IgnoreRegion... ignoredRegions) {
+        byte[] screenshot = performResult("capture screenshot",
+                () -> getVisibleElement().getScreenshotAs(OutputType.BYTES));
+        new VisualValidator(getDriver()).matchesBaseline(baselineName, screenshot, message, ignoredRegions);
+        return this;
+    }
 
     // Element state management methods
     
@@ -15,6 +15,10 @@ public final class ButtonElement extends BaseElement {
         super(locator);
     }
 
+    public ButtonElement(By locator, String name, AlternativeLocator... alternatives) {
+        super(locator, name, alternatives);
+    }
+
     public void click() {
         performAction(ElementAction.CLICK.getDescription(), () -> getClickableElement().click());
     }
@@ -13,6 +13,10 @@ public final class CheckboxElement extends BaseElement {
         super(locator);
     }
 
+    public CheckboxElement(By locator, String name, AlternativeLocator... alternatives) {
+        super(locator, name, alternatives);
+    }
+
     public void check() {
         performAction(ElementAction.CHECK.getDescription(), () -> {
             var element = getClickableElement();
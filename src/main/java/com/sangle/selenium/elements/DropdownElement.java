@@ -16,6 +16,10 @@ public final class DropdownElement extends BaseElement {
         super(locator);
     }
 
+    public DropdownElement(By locator, String name, AlternativeLocator... alternatives) {
+        super(locator, name, alternatives);
+    }
+
     public void selectByValue(String value) {
         performAction(ElementAction.SELECT_BY_VALUE.withValue(value), () -> 
             new Select(getVisibleElement()).selectByValue(value));
@@ -13,6 +13,10 @@ public class GenericElement extends BaseElement {
         super(locator);
     }
 
+    public GenericElement(By locator, String name, AlternativeLocator... alternatives) {
+        super(locator, name, alternatives);
+    }
+
     @Override
     public boolean isDisplayed() {
         return performResult(ElementAction.CHECK_DISPLAYED.getDescription(), () -> getVisibleElement().isDisplayed());
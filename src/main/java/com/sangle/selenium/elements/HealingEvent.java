@@ -0,0 +1,22 @@
+package com.sangle.selenium.elements;
+
+import java.time.Instant;
+
+/**
+ * Record of an element whose primary locator failed and was healed by one of its alternatives.
+ */
+public record HealingEvent(
+        String elementKey,
+        String elementName,
+        String primaryLocator,
+        AlternativeLocator.Strategy strategy,
+        String winningLocator,
+        Instant healedAt,
+        int occurrences
+) {
+
+    HealingEvent incremented() {
+        return new HealingEvent(elementKey, elementName, primaryLocator, strategy, winningLocator, healedAt,
+                occurrences + 1);
+    }
+}
@@ -0,0 +1,153 @@
+package com.sangle.selenium.elements;
+
+import com.sangle.selenium.config.ConfigManager;
+import com.sangle.selenium.constants.FrameworkConstants;
+import com.sangle.selenium.utils.JsonHelper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process-wide registry of locator healing outcomes.
+ * The winning alternative of every healed element is persisted so that the next run evaluates it first,
+ * and the events of the current run are kept for the end-of-suite healing report.
+ */
+public final class HealingRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HealingRegistry.class);
+    private static final int MAX_PERSISTED_HISTORY = 500;
+    private static final Object LOCK = new Object();
+    private static final Map<String, HealingEvent> SESSION_EVENTS = new ConcurrentHashMap<>();
+    private static volatile Map<String, String> preferred;
+    private static List<HealingEvent> history;
+
+    private HealingRegistry() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Persisted layout of the healing store.
+     */
+    public record Store(Map<String, String> preferred, List<HealingEvent> history) {
+    }
+
+    static Optional<String> preferredCandidate(String elementKey) {
+        return Optional.ofNullable(loadPreferred().get(elementKey));
+    }
+
+    static void recordHealing(HealingEvent event) {
+        SESSION_EVENTS.merge(event.elementKey(), event, (existing, ignored) -> existing.incremented());
+        synchronized (LOCK) {
+            Map<String, String> winners = loadPreferred();
+            if (event.winningLocator().equals(winners.get(event.elementKey()))) {
+                return;
+            }
+            winners.put(event.elementKey(), event.winningLocator());
+            history.add(event);
+            if (history.size() > MAX_PERSISTED_HISTORY) {
+                history.subList(0, history.size() - MAX_PERSISTED_HISTORY).clear();
+            }
+            persist();
+        }
+    }
+
+    static void clearPreference(String elementKey) {
+        synchronized (LOCK) {
+            if (loadPreferred().remove(elementKey) != null) {
+                persist();
+            }
+        }
+    }
+
+    /**
+     * Elements healed during the current run, most frequently healed first.
+     * @return healing events of this run
+     */
+    public static List<HealingEvent> sessionEvents() {
+        List<HealingEvent> events = new ArrayList<>(SESSION_EVENTS.values());
+        events.sort(Comparator.comparingInt(HealingEvent::occurrences).reversed()
+                .thenComparing(HealingEvent::elementName));
+        return events;
+    }
+
+    /**
+     * Writes a Markdown report listing every element that needed healing during this run.
+     * @return path of the written report, or null when nothing was healed
+     */
+    public static Path writeReport() {
+        List<HealingEvent> events = sessionEvents();
+        if (events.isEmpty()) {
+            return null;
+        }
+        StringBuilder report = new StringBuilder()
+                .append("# Locator Healing Report\n\n")
+                .append("| Element | Primary locator | Strategy | Winning locator | Occurrences |\n")
+                .append("|---|---|---|---|---|\n");
+        for (HealingEvent event : events) {
+            report.append("| ").append(event.elementName())
+                    .append(" | `").append(event.primaryLocator())
+                    .append("` | ").append(event.strategy())
+                    .append(" | `").append(event.winningLocator())
+                    .append("` | ").append(event.occurrences())
+                    .append(" |\n");
+        }
+        Path reportPath = Paths.get("target", FrameworkConstants.HEALING_DIR, "healing-report.md");
+        try {
+            Files.createDirectories(reportPath.getParent());
+            Files.writeString(reportPath, report);
+        } catch (IOException exception) {
+            LOG.error("Failed to write healing report", exception);
+            return null;
+        }
+        return reportPath;
+    }
+
+    private static Map<String, String> loadPreferred() {
+        Map<String, String> winners = preferred;
+        if (winners != null) {
+            return winners;
+        }
+        synchronized (LOCK) {
+            if (preferred == null) {
+                Store store = readStore();
+                history = new ArrayList<>(store.history() == null ? List.of() : store.history());
+                preferred = new ConcurrentHashMap<>(store.preferred() == null ? Map.of() : store.preferred());
+            }
+            return preferred;
+        }
+    }
+
+    private static Store readStore() {
+        Path storePath = storePath();
+        if (!Files.isRegularFile(storePath)) {
+            return new Store(Map.of(), List.of());
+        }
+        try {
+            return JsonHelper.readObjectFromFile(storePath, Store.class);
+        } catch (IllegalStateException exception) {
+            LOG.warn("Ignoring unreadable healing store {}: {}", storePath, exception.getMessage());
+            return new Store(Map.of(), List.of());
+        }
+    }
+
+    private static void persist() {
+        try {
+            JsonHelper.writeObjectToFile(storePath(), new Store(Map.copyOf(preferred), List.copyOf(history)));
+        } catch (IllegalStateException exception) {
+            LOG.warn("Unable to persist healing store: {}", exception.getMessage());
+        }
+    }
+
+    private static Path storePath() {
+        return Paths.get(ConfigManager.getConfig().healingStorePath()).toAbsolutePath();
+    }
+}
@@ -12,6 +12,10 @@ public final class IFrameElement extends BaseElement {
         super(locator);
     }
 
+    public IFrameElement(By locator, String name, AlternativeLocator... alternatives) {
+        super(locator, name, alternatives);
+    }
+
     public void switchTo() {
         performAction("switch to iframe", () -> getDriver().switchTo().frame(getPresentElement()));
     }
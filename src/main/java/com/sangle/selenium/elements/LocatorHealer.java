@@ -0,0 +1,187 @@
+package com.sangle.selenium.elements;
+
+import com.sangle.selenium.logging.StepLogger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Evaluates the primary locator of an element together with its alternatives in a single script execution.
+ * Candidates are tried in order (a previously winning alternative first, then the primary locator, then the
+ * remaining alternatives). The primary locator wins with its first match, like {@code findElement}; an
+ * alternative only wins when it matches exactly one element.
+ */
+final class LocatorHealer {
+
+    private static final String HEALING_SCRIPT = """
+            var candidates = arguments[0];
+            function byCss(query) {
+                return Array.prototype.slice.call(document.querySelectorAll(query));
+            }
+            function byXpath(query) {
+                var snapshot = document.evaluate(query, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                var nodes = [];
+                for (var i = 0; i < snapshot.snapshotLength; i++) {
+                    nodes.push(snapshot.snapshotItem(i));
+                }
+                return nodes;
+            }
+            function relative(candidate) {
+                var anchors = byCss(candidate.anchor);
+                if (anchors.length !== 1) {
+                    return [];
+                }
+                var a = anchors[0].getBoundingClientRect();
+                var scored = byCss(candidate.query).filter(function (el) {
+                    if (el === anchors[0]) {
+                        return false;
+                    }
+                    var r = el.getBoundingClientRect();
+                    switch (candidate.position) {
+                        case 'ABOVE': return r.bottom <= a.top;
+                        case 'BELOW': return r.top >= a.bottom;
+                        case 'LEFT_OF': return r.right <= a.left;
+                        case 'RIGHT_OF': return r.left >= a.right;
+                        default: return true;
+                    }
+                }).map(function (el) {
+                    var r = el.getBoundingClientRect();
+                    var dx = Math.max(a.left - r.right, r.left - a.right, 0);
+                    var dy = Math.max(a.top - r.bottom, r.top - a.bottom, 0);
+                    return {element: el, distance: Math.sqrt(dx * dx + dy * dy)};
+                }).filter(function (scoredElement) {
+                    return candidate.position !== 'NEAR' || scoredElement.distance <= 50;
+                }).sort(function (x, y) {
+                    return x.distance - y.distance;
+                });
+                if (scored.length > 1 && scored[0].distance === scored[1].distance) {
+                    return [scored[0].element, scored[1].element];
+                }
+                return scored.length === 0 ? [] : [scored[0].element];
+            }
+            function find(candidate) {
+                try {
+                    switch (candidate.type) {
+                        case 'css': return byCss(candidate.query);
+                        case 'xpath': return byXpath(candidate.query);
+                        case 'relative': return relative(candidate);
+                        default: return [];
+                    }
+                } catch (e) {
+                    return [];
+                }
+            }
+            for (var i = 0; i < candidates.length; i++) {
+                var found = find(candidates[i]);
+                if (found.length === 1 || (candidates[i].first && found.length > 0)) {
+                    return [i, found[0]];
+                }
+            }
+            return null;
+            """;
+
+    private final String elementName;
+    private final By primary;
+    private final List<AlternativeLocator> alternatives;
+    private final String elementKey;
+
+    LocatorHealer(String elementName, By primary, List<AlternativeLocator> alternatives) {
+        this.elementName = elementName;
+        this.primary = primary;
+        this.alternatives = List.copyOf(alternatives);
+        this.elementKey = elementName + "|" + primary;
+    }
+
+    /**
+     * Outcome of a single healing pass.
+     */
+    record HealedLocator(By locator, AlternativeLocator.Strategy strategy, WebElement element) {
+    }
+
+    /**
+     * Runs one healing pass.
+     * @param driver driver of the current thread
+     * @return the winning candidate with the element it matched, or null when no candidate wins yet
+     */
+    HealedLocator locate(WebDriver driver) {
+        Map<String, String> primaryDescriptor = scriptDescriptor(primary);
+        if (primaryDescriptor == null) {
+            List<WebElement> matches = driver.findElements(primary);
+            if (!matches.isEmpty()) {
+                return primaryWon(matches.get(0));
+            }
+        }
+
+        List<Candidate> candidates = orderedCandidates(primaryDescriptor);
+        List<Map<String, String>> descriptors = new ArrayList<>(candidates.size());
+        candidates.forEach(candidate -> descriptors.add(candidate.descriptor()));
+        Object result = ((JavascriptExecutor) driver).executeScript(HEALING_SCRIPT, descriptors);
+        if (!(result instanceof List<?> pair) || pair.size() != 2) {
+            return null;
+        }
+        Candidate winner = candidates.get(((Number) pair.get(0)).intValue());
+        WebElement element = (WebElement) pair.get(1);
+        if (winner.alternative() == null) {
+            HealingRegistry.clearPreference(elementKey);
+            return primaryWon(element);
+        }
+        AlternativeLocator alternative = winner.alternative();
+        HealingRegistry.recordHealing(new HealingEvent(elementKey, elementName, primary.toString(),
+                alternative.strategy(), alternative.key(), Instant.now(), 1));
+        StepLogger.warn("Locator healed for '" + elementName + "': " + primary + " -> " + alternative.key());
+        return new HealedLocator(alternative.toBy(), alternative.strategy(), element);
+    }
+
+    private HealedLocator primaryWon(WebElement element) {
+        return new HealedLocator(primary, AlternativeLocator.Strategy.PRIMARY, element);
+    }
+
+    private List<Candidate> orderedCandidates(Map<String, String> primaryDescriptor) {
+        String preferredKey = HealingRegistry.preferredCandidate(elementKey).orElse(null);
+        List<Candidate> candidates = new ArrayList<>(alternatives.size() + 1);
+        for (AlternativeLocator alternative : alternatives) {
+            if (alternative.key().equals(preferredKey)) {
+                candidates.add(new Candidate(alternative, alternative.toScriptArgument()));
+            }
+        }
+        if (primaryDescriptor != null) {
+            Map<String, String> firstMatch = new HashMap<>(primaryDescriptor);
+            firstMatch.put("first", "true");
+            candidates.add(new Candidate(null, firstMatch));
+        }
+        for (AlternativeLocator alternative : alternatives) {
+            if (!alternative.key().equals(preferredKey)) {
+                candidates.add(new Candidate(alternative, alternative.toScriptArgument()));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Translates a Selenium locator into a script descriptor, or null when it can only be evaluated by the driver.
+     */
+    private static Map<String, String> scriptDescriptor(By by) {
+        if (!(by instanceof By.Remotable remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        String value = String.valueOf(parameters.value());
+        return switch (parameters.using()) {
+            case "css selector" -> Map.of("type", "css", "query", value);
+            case "tag name" -> Map.of("type", "css", "query", value);
+            case "xpath" -> Map.of("type", "xpath", "query", value);
+            case "link text" -> Map.of("type", "xpath", "query",
+                    AlternativeLocator.byText("a", value).query());
+            default -> null;
+        };
+    }
+
+    private record Candidate(AlternativeLocator alternative, Map<String, String> descriptor) {
+    }
+}
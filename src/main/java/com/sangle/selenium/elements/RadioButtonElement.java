@@ -13,6 +13,10 @@ public final class RadioButtonElement extends BaseElement {
         super(locator);
     }
 
+    public RadioButtonElement(By locator, String name, AlternativeLocator... alternatives) {
+        super(locator, name, alternatives);
+    }
+
     public void select() {
         performAction(ElementAction.SELECT_RADIO.getDescription(), () -> {
             var element = getClickableElement();
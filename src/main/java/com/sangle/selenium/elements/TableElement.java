@@ -17,6 +17,10 @@ public final class TableElement extends BaseElement {
         super(locator);
     }
 
+    public TableElement(By locator, String name, AlternativeLocator... alternatives) {
+        super(locator, name, alternatives);
+    }
+
     public int getRowCount() {
         return performResult("get row count", () -> rows().size());
     }
@@ -14,6 +14,10 @@ public final class TextBoxElement extends BaseElement {
         super(locator);
     }
 
+    public TextBoxElement(By locator, String name, AlternativeLocator... alternatives) {
+        super(locator, name, alternatives);
+    }
+
     public void type(CharSequence text) {
         performAction(ElementAction.TYPE_TEXT.withValue(text.toString()), () -> getVisibleElement().sendKeys(text));
     }
@@ -0,0 +1,146 @@
+package com.sangle.selenium.logging;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Stage;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.util.ResultsUtils;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Accumulates the Allure steps of one test thread in memory and attaches them in one pass when the test
+ * invocation ends. START events open a step that the matching SUCCESS or FAILURE closes, so events logged in
+ * between become its children; consecutive identical steps can be collapsed into a single step with a repeat
+ * count. Only top-level steps go through the Allure lifecycle, their children are attached with them.
+ * Filled by a single thread at a time and attached by the owning test thread.
+ */
+final class AllureStepBuffer {
+
+    private final boolean nested;
+    private final boolean collapse;
+    private final Map<String, Container> containers = new LinkedHashMap<>();
+
+    AllureStepBuffer(boolean nested, boolean collapse) {
+        this.nested = nested;
+        this.collapse = collapse;
+    }
+
+    void add(String parentUuid, StepStage stage, String name, Throwable throwable, long timestampMillis) {
+        Container container = containers.computeIfAbsent(parentUuid, ignored -> new Container());
+        container.lastTimestampMillis = timestampMillis;
+        if (nested && stage == StepStage.START) {
+            StepResult step = new StepResult().setName(name).setStage(Stage.RUNNING);
+            step.setStart(timestampMillis);
+            container.siblings().add(step);
+            container.open.push(step);
+            return;
+        }
+        StepResult step;
+        if (nested && (stage == StepStage.SUCCESS || stage == StepStage.FAILURE) && !container.open.isEmpty()) {
+            step = container.open.pop();
+            step.setName(name);
+        } else {
+            step = new StepResult().setName(name);
+            step.setStart(timestampMillis);
+            container.siblings().add(step);
+        }
+        step.setStatus(status(stage)).setStage(Stage.FINISHED);
+        step.setStop(timestampMillis);
+        if (throwable != null) {
+            ResultsUtils.getStatusDetails(throwable).ifPresent(step::setStatusDetails);
+        }
+        if (collapse) {
+            container.collapseLast();
+        }
+    }
+
+    /**
+     * Attaches every buffered step to its parent test, fixture or step and clears the buffer. Steps still open
+     * (an action without an outcome) are closed as broken.
+     */
+    void attach() {
+        if (containers.isEmpty()) {
+            return;
+        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        for (Map.Entry<String, Container> entry : containers.entrySet()) {
+            Container container = entry.getValue();
+            while (!container.open.isEmpty()) {
+                StepResult step = container.open.pop();
+                step.setStatus(Status.BROKEN).setStage(Stage.FINISHED);
+                step.setStop(container.lastTimestampMillis);
+            }
+            for (StepResult step : container.roots) {
+                Long start = step.getStart();
+                Long stop = step.getStop();
+                String uuid = UUID.randomUUID().toString();
+                lifecycle.startStep(entry.getKey(), uuid, step);
+                lifecycle.stopStep(uuid);
+                step.setStart(start);
+                step.setStop(stop);
+            }
+        }
+        containers.clear();
+    }
+
+    private static Status status(StepStage stage) {
+        return switch (stage) {
+            case FAILURE -> Status.FAILED;
+            case ERROR -> Status.BROKEN;
+            default -> Status.PASSED;
+        };
+    }
+
+    /**
+     * Steps attached to one Allure parent, with the stack of actions still waiting for their outcome.
+     */
+    private static final class Container {
+
+        private final List<StepResult> roots = new ArrayList<>();
+        private final Deque<StepResult> open = new ArrayDeque<>();
+        private StepResult collapsedStep;
+        private String collapsedName;
+        private int repeats;
+        private long lastTimestampMillis;
+
+        List<StepResult> siblings() {
+            return open.isEmpty() ? roots : open.peek().getSteps();
+        }
+
+        /**
+         * Merges the step that was just finished into its previous sibling when both are identical leaf steps.
+         */
+        void collapseLast() {
+            List<StepResult> siblings = siblings();
+            int size = siblings.size();
+            if (size < 2) {
+                return;
+            }
+            StepResult last = siblings.get(size - 1);
+            StepResult previous = siblings.get(size - 2);
+            if (!last.getSteps().isEmpty() || !previous.getSteps().isEmpty()
+                    || previous.getStage() != Stage.FINISHED || previous.getStatus() != last.getStatus()) {
+                return;
+            }
+            if (previous == collapsedStep && collapsedName.equals(last.getName())) {
+                repeats++;
+            } else if (previous.getName().equals(last.getName())) {
+                collapsedStep = previous;
+                collapsedName = previous.getName();
+                repeats = 2;
+            } else {
+                return;
+            }
+            siblings.remove(size - 1);
+            previous.setName(collapsedName + " (x" + repeats + ")");
+            previous.setStop(last.getStop());
+        }
+    }
+}
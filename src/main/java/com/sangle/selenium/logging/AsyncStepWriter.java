@@ -0,0 +1,116 @@
+package com.sangle.selenium.logging;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+
+/**
+ * Background writer behind {@link StepLogger}. Test threads publish events into their own
+ * {@link StepEventRing}; a single daemon thread formats them, writes them to the logger and prepares the Allure
+ * steps, which the owning thread attaches on {@link #flushCurrentThread()}.
+ */
+final class AsyncStepWriter implements Runnable {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Logger log;
+    private final int ringCapacity;
+    private final List<StepEventRing> rings = new CopyOnWriteArrayList<>();
+    private final Supplier<AllureStepBuffer> allureStepsFactory;
+    private final ThreadLocal<StepEventRing> currentRing;
+    private final StringBuilder buffer = new StringBuilder(256);
+    private final Thread writerThread;
+
+    AsyncStepWriter(Logger log, int ringCapacity, Supplier<AllureStepBuffer> allureStepsFactory) {
+        this.log = log;
+        this.ringCapacity = ringCapacity;
+        this.allureStepsFactory = allureStepsFactory;
+        this.currentRing = ThreadLocal.withInitial(this::registerRing);
+        this.writerThread = new Thread(this, "step-logger-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::drainAll, "step-logger-shutdown"));
+    }
+
+    /**
+     * Captures an event on the calling thread. Only references are stored; events that neither the logger nor
+     * Allure would consume are skipped, and when the ring is full the caller waits for the writer instead of
+     * dropping the event.
+     */
+    void publish(StepStage stage, String elementName, String action, By locator, Object detail,
+                 Throwable throwable, String message, long timestampMillis) {
+        boolean logEnabled = StepLogger.isEnabled(stage);
+        String allureParent = StepLogger.currentAllureParent();
+        if (!logEnabled && allureParent == null) {
+            return;
+        }
+        StepEventRing ring = currentRing.get();
+        StepEvent slot = ring.claim();
+        while (slot == null) {
+            LockSupport.unpark(writerThread);
+            Thread.onSpinWait();
+            slot = ring.claim();
+        }
+        Thread thread = Thread.currentThread();
+        slot.set(stage, elementName, action, locator, detail, throwable, message, thread.getName(),
+                allureParent, logEnabled, timestampMillis);
+        ring.publish();
+    }
+
+    /**
+     * Waits until every event of the calling thread has been written, then attaches its Allure steps.
+     * Must be called on the test thread before the Allure test result is stopped.
+     */
+    void flushCurrentThread() {
+        StepEventRing ring = currentRing.get();
+        while (!ring.isDrained()) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+        }
+        ring.allureSteps().attach();
+    }
+
+    @Override
+    public void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            if (drainAll() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private synchronized int drainAll() {
+        int drained = 0;
+        for (StepEventRing ring : rings) {
+            drained += ring.drain(event -> write(ring, event));
+            if (!ring.owner().isAlive() && ring.isDrained()) {
+                rings.remove(ring);
+            }
+        }
+        return drained;
+    }
+
+    private void write(StepEventRing ring, StepEvent event) {
+        buffer.setLength(0);
+        StepLogger.appendMessage(buffer, event.stage, event.threadName, event.elementName, event.action,
+                event.locator, event.detail, event.throwable, event.message);
+        String message = buffer.toString();
+        if (event.logEnabled) {
+            StepLogger.log(log, event.stage, message, event.throwable);
+        }
+        if (event.allureParentUuid != null) {
+            ring.allureSteps().add(event.allureParentUuid, event.stage, StepLogger.allureStepName(event.stage, message),
+                    event.throwable, event.timestampMillis);
+        }
+    }
+
+    private StepEventRing registerRing() {
+        StepEventRing ring = new StepEventRing(ringCapacity, Thread.currentThread(), allureStepsFactory.get());
+        rings.add(ring);
+        return ring;
+    }
+}
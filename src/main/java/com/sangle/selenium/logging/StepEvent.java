@@ -0,0 +1,47 @@
+package com.sangle.selenium.logging;
+
+import org.openqa.selenium.By;
+
+/**
+ * Mutable, reusable slot of a {@link StepEventRing}. Capturing an event only copies references and a timestamp;
+ * the message is formatted later by the writer thread.
+ */
+final class StepEvent {
+
+    StepStage stage;
+    String elementName;
+    String action;
+    By locator;
+    Object detail;
+    Throwable throwable;
+    String message;
+    String threadName;
+    String allureParentUuid;
+    boolean logEnabled;
+    long timestampMillis;
+
+    void set(StepStage stage, String elementName, String action, By locator, Object detail, Throwable throwable,
+             String message, String threadName, String allureParentUuid, boolean logEnabled, long timestampMillis) {
+        this.stage = stage;
+        this.elementName = elementName;
+        this.action = action;
+        this.locator = locator;
+        this.detail = detail;
+        this.throwable = throwable;
+        this.message = message;
+        this.threadName = threadName;
+        this.allureParentUuid = allureParentUuid;
+        this.logEnabled = logEnabled;
+        this.timestampMillis = timestampMillis;
+    }
+
+    void clear() {
+        elementName = null;
+        action = null;
+        locator = null;
+        detail = null;
+        throwable = null;
+        message = null;
+        allureParentUuid = null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.sangle.selenium.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Single-producer/single-consumer ring of pre-allocated {@link StepEvent} slots owned by one test thread.
+ * The owner thread claims and publishes slots; the writer thread drains them.
+ */
+final class StepEventRing {
+
+    private final StepEvent[] slots;
+    private final int mask;
+    private final Thread owner;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AllureStepBuffer allureSteps;
+    private long cachedHead;
+
+    StepEventRing(int requestedCapacity, Thread owner, AllureStepBuffer allureSteps) {
+        int capacity = Math.max(16, Integer.highestOneBit(Math.max(1, requestedCapacity - 1)) << 1);
+        this.slots = new StepEvent[capacity];
+        for (int index = 0; index < capacity; index++) {
+            slots[index] = new StepEvent();
+        }
+        this.mask = capacity - 1;
+        this.owner = owner;
+        this.allureSteps = allureSteps;
+    }
+
+    /**
+     * Claims the next free slot; must be followed by {@link #publish()}.
+     * @return free slot, or null when the ring is full
+     */
+    StepEvent claim() {
+        long position = tail.get();
+        if (position - cachedHead >= slots.length) {
+            cachedHead = head.get();
+            if (position - cachedHead >= slots.length) {
+                return null;
+            }
+        }
+        return slots[(int) (position & mask)];
+    }
+
+    void publish() {
+        tail.lazySet(tail.get() + 1);
+    }
+
+    /**
+     * Hands every published event to the consumer and releases its slot. Writer thread only.
+     * @return number of drained events
+     */
+    int drain(Consumer<StepEvent> consumer) {
+        long position = head.get();
+        long limit = tail.get();
+        int drained = 0;
+        while (position < limit) {
+            StepEvent event = slots[(int) (position & mask)];
+            try {
+                consumer.accept(event);
+            } finally {
+                event.clear();
+                position++;
+                head.lazySet(position);
+                drained++;
+            }
+        }
+        return drained;
+    }
+
+    boolean isDrained() {
+        return head.get() == tail.get();
+    }
+
+    Thread owner() {
+        return owner;
+    }
+
+    /**
+     * Allure steps built by the writer thread, attached by the owner thread once the ring is drained.
+     */
+    AllureStepBuffer allureSteps() {
+        return allureSteps;
+    }
+}
@@ -1,7 +1,17 @@
 package com.sangle.selenium.logging;
 
+import com.sangle.selenium.config.ConfigManager;
+import com.sangle.selenium.config.FrameworkConfig;
+import com.sangle.selenium.constants.StepLogMode;
+import com.sangle.selenium.tracing.TraceCategory;
+import com.sangle.selenium.tracing.TraceRecorder;
+import com.sangle.selenium.utils.ScreenshotHistory;
 import io.qameta.allure.Allure;
-import java.util.Optional;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
+import java.util.Set;
 import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,78 +20,237 @@ public final class StepLogger {
 
     private static final Logger LOG = LoggerFactory.getLogger("FrameworkActions");
     private static final int DETAIL_MAX_LENGTH = 200;
+    private static final FrameworkConfig CONFIG = ConfigManager.getConfig();
+    private static final AsyncStepWriter WRITER = CONFIG.stepLoggerAsync()
+            ? new AsyncStepWriter(LOG, CONFIG.stepLoggerBufferSize(), StepLogger::newAllureStepBuffer)
+            : null;
+    private static final Set<StepStage> SCREENSHOT_STAGES = screenshotStages();
+    private static final ThreadLocal<AllureStepBuffer> SYNC_ALLURE_STEPS =
+            ThreadLocal.withInitial(StepLogger::newAllureStepBuffer);
+    private static final boolean FAILURE_ONLY = CONFIG.stepLogMode() == StepLogMode.FAILURE_ONLY;
+    private static final DateTimeFormatter REPLAY_TIME =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final ThreadLocal<TestStepBuffer> TEST_BUFFER =
+            ThreadLocal.withInitial(() -> new TestStepBuffer(CONFIG.stepLogFailureBufferSize()));
 
     private StepLogger() {
         throw new IllegalStateException("Utility class");
     }
 
     public static void actionStart(String elementName, String action, By locator) {
-        logAction("START", elementName, action, locator, null, null);
+        record(StepStage.START, elementName, action, locator, null, null, null);
     }
 
     public static void actionSuccess(String elementName, String action, By locator, Object detail) {
-        logAction("SUCCESS", elementName, action, locator, detail, null);
+        record(StepStage.SUCCESS, elementName, action, locator, detail, null, null);
     }
 
     public static void actionFailure(String elementName, String action, By locator, Throwable throwable) {
-        logAction("FAILURE", elementName, action, locator,
-                Optional.ofNullable(throwable).map(Throwable::getMessage).orElse(null), throwable);
+        record(StepStage.FAILURE, elementName, action, locator, null, throwable, null);
     }
 
     public static void info(String message) {
-        LOG.info(message);
-        safeAllureStep(message);
+        record(StepStage.INFO, null, null, null, null, null, message);
     }
 
     public static void warn(String message) {
-        LOG.warn(message);
-        safeAllureStep("WARN: " + message);
+        record(StepStage.WARN, null, null, null, null, null, message);
     }
 
     public static void error(String message, Throwable throwable) {
-        LOG.error(message, throwable);
-        safeAllureStep("ERROR: " + message);
+        record(StepStage.ERROR, null, null, null, null, throwable, message);
     }
 
-    private static void logAction(String stage, String elementName, String action, By locator, Object detail,
-                                  Throwable throwable) {
-        String message = buildActionMessage(stage, elementName, action, locator, detail);
-        if (throwable == null) {
-            LOG.info(message);
+    /**
+     * Starts buffering the detailed events of a test on the current thread when the failure-only mode is active.
+     * Warnings and errors are still logged straight away, and are also buffered so that a replay keeps them in
+     * order with the steps that led to them.
+     * @param testName name used in the summary line
+     */
+    public static void beginTest(String testName) {
+        if (FAILURE_ONLY) {
+            TEST_BUFFER.get().begin(testName);
+        }
+    }
+
+    /**
+     * Ends buffering for the current test. Failed or retried tests replay every buffered event to the logger and
+     * Allure; passing tests only emit a one-line summary. The logger stamps replayed lines with the replay time, so
+     * each one is prefixed with the time it was recorded, and with its thread when the line does not name it.
+     * @param passed whether the test invocation passed
+     */
+    public static void endTest(boolean passed) {
+        TestStepBuffer buffer = TEST_BUFFER.get();
+        if (!FAILURE_ONLY || !buffer.isActive()) {
+            return;
+        }
+        TestStepBuffer.Contents contents = buffer.finish();
+        if (passed) {
+            long suppressed = contents.events().stream().filter(event -> !loggedImmediately(event.stage())).count();
+            dispatch(StepStage.INFO, null, null, null, null, null,
+                    "Test '" + contents.testName() + "' passed: " + contents.actions() + " actions, "
+                            + suppressed + " detailed steps suppressed in "
+                            + contents.durationMillis() + "ms",
+                    System.currentTimeMillis());
+            return;
+        }
+        if (contents.dropped() > 0) {
+            dispatch(StepStage.WARN, null, null, null, null, null,
+                    "Test '" + contents.testName() + "' failed: " + contents.dropped()
+                            + " earlier detailed steps were dropped from the bounded buffer",
+                    System.currentTimeMillis());
+        }
+        String threadName = Thread.currentThread().getName();
+        for (TestStepBuffer.BufferedEvent event : contents.events()) {
+            StringBuilder line = new StringBuilder(160).append("[replay ")
+                    .append(REPLAY_TIME.format(Instant.ofEpochMilli(event.timestampMillis()))).append("] ");
+            if (event.message() != null) {
+                line.append('[').append(threadName).append("] ");
+            }
+            appendMessage(line, event.stage(), threadName, event.elementName(), event.action(), event.locator(),
+                    event.detail(), event.throwable(), event.message());
+            dispatch(event.stage(), null, null, null, null, event.throwable(), line.toString(),
+                    event.timestampMillis());
+        }
+    }
+
+    /**
+     * Waits until all events logged by the current thread are written and attaches their buffered Allure steps.
+     * Called at the end of every test invocation, before the Allure result is stopped.
+     */
+    public static void flush() {
+        if (WRITER != null) {
+            WRITER.flushCurrentThread();
+            return;
+        }
+        SYNC_ALLURE_STEPS.get().attach();
+    }
+
+    private static void record(StepStage stage, String elementName, String action, By locator, Object detail,
+                               Throwable throwable, String message) {
+        long timestampMillis = System.currentTimeMillis();
+        trace(stage, elementName, action, message);
+        if (SCREENSHOT_STAGES.contains(stage)) {
+            ScreenshotHistory.capture(elementName == null ? stage.name() : elementName + " " + action + " " + stage);
+        }
+        if (FAILURE_ONLY) {
+            TestStepBuffer buffer = TEST_BUFFER.get();
+            if (buffer.isActive()) {
+                buffer.add(new TestStepBuffer.BufferedEvent(stage, elementName, action, locator, detail, throwable,
+                        message, timestampMillis));
+                if (!loggedImmediately(stage)) {
+                    return;
+                }
+            }
+        }
+        dispatch(stage, elementName, action, locator, detail, throwable, message, timestampMillis);
+    }
+
+    private static boolean loggedImmediately(StepStage stage) {
+        return stage == StepStage.WARN || stage == StepStage.ERROR;
+    }
+
+    private static void trace(StepStage stage, String elementName, String action, String message) {
+        if (!TraceRecorder.isEnabled()) {
+            return;
+        }
+        switch (stage) {
+            case START -> TraceRecorder.actionStarted(elementName, action);
+            case SUCCESS, FAILURE -> TraceRecorder.actionEnded(elementName, action);
+            default -> TraceRecorder.instant(TraceCategory.STEP, message, stage);
+        }
+    }
+
+    private static void dispatch(StepStage stage, String elementName, String action, By locator, Object detail,
+                                 Throwable throwable, String message, long timestampMillis) {
+        if (WRITER != null) {
+            WRITER.publish(stage, elementName, action, locator, detail, throwable, message, timestampMillis);
+            return;
+        }
+        StringBuilder builder = new StringBuilder(128);
+        appendMessage(builder, stage, Thread.currentThread().getName(), elementName, action, locator, detail,
+                throwable, message);
+        String formatted = builder.toString();
+        log(LOG, stage, formatted, throwable);
+        String allureParent = currentAllureParent();
+        if (allureParent != null) {
+            SYNC_ALLURE_STEPS.get().add(allureParent, stage, allureStepName(stage, formatted), throwable,
+                    timestampMillis);
+        }
+    }
+
+    static boolean isEnabled(StepStage stage) {
+        if (stage.isError()) {
+            return LOG.isErrorEnabled();
+        }
+        return stage == StepStage.WARN ? LOG.isWarnEnabled() : LOG.isInfoEnabled();
+    }
+
+    static void log(Logger logger, StepStage stage, String formatted, Throwable throwable) {
+        if (stage.isError()) {
+            logger.error(formatted, throwable);
+        } else if (stage == StepStage.WARN) {
+            logger.warn(formatted);
         } else {
-            LOG.error(message, throwable);
+            logger.info(formatted);
         }
-        safeAllureStep(message);
     }
 
-    private static String buildActionMessage(String stage, String elementName, String action, By locator, Object detail) {
-        String locatorValue = locator == null ? "N/A" : locator.toString();
-        String detailValue = Optional.ofNullable(detail)
-                .map(StepLogger::truncateDetail)
-                .map(text -> " | detail=" + text)
-                .orElse("");
-        return String.format("[%s][%s] %s -> %s | locator=%s%s",
-                stage,
-                Thread.currentThread().getName(),
-                elementName,
-                action,
-                locatorValue,
-                detailValue);
+    static void appendMessage(StringBuilder builder, StepStage stage, String threadName, String elementName,
+                              String action, By locator, Object detail, Throwable throwable, String message) {
+        if (message != null) {
+            builder.append(message);
+            return;
+        }
+        builder.append('[').append(stage.name()).append("][").append(threadName).append("] ")
+                .append(elementName).append(" -> ").append(action)
+                .append(" | locator=").append(locator == null ? "N/A" : locator.toString());
+        Object resolvedDetail = detail == null && throwable != null ? throwable.getMessage() : detail;
+        if (resolvedDetail != null) {
+            builder.append(" | detail=");
+            appendTruncated(builder, String.valueOf(resolvedDetail));
+        }
+    }
+
+    static String allureStepName(StepStage stage, String formatted) {
+        return switch (stage) {
+            case WARN -> "WARN: " + formatted;
+            case ERROR -> "ERROR: " + formatted;
+            default -> formatted;
+        };
     }
 
-    private static String truncateDetail(Object detail) {
-        String value = String.valueOf(detail);
+    private static void appendTruncated(StringBuilder builder, String value) {
         if (value.length() <= DETAIL_MAX_LENGTH) {
-            return value;
+            builder.append(value);
+            return;
         }
-        return value.substring(0, DETAIL_MAX_LENGTH) + "...";
+        builder.append(value, 0, DETAIL_MAX_LENGTH).append("...");
     }
 
-    private static void safeAllureStep(String message) {
+    static String currentAllureParent() {
         try {
-            Allure.step(message);
+            return Allure.getLifecycle().getCurrentTestCaseOrStep().orElse(null);
         } catch (IllegalStateException ignored) {
             // No active Allure lifecycle; skip attaching step.
+            return null;
         }
     }
+
+    private static Set<StepStage> screenshotStages() {
+        Set<StepStage> stages = EnumSet.noneOf(StepStage.class);
+        if (!ScreenshotHistory.isEnabled()) {
+            return stages;
+        }
+        for (String stage : CONFIG.screenshotHistoryStages().split(",")) {
+            if (!stage.isBlank()) {
+                stages.add(StepStage.valueOf(stage.trim().toUpperCase()));
+            }
+        }
+        return stages;
+    }
+
+    private static AllureStepBuffer newAllureStepBuffer() {
+        return new AllureStepBuffer(CONFIG.allureStepsNested(), CONFIG.allureStepsCollapsed());
+    }
 }
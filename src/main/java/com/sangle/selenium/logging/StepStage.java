@@ -0,0 +1,17 @@
+package com.sangle.selenium.logging;
+
+/**
+ * Stage of a step event recorded by {@link StepLogger}.
+ */
+public enum StepStage {
+    START,
+    SUCCESS,
+    FAILURE,
+    INFO,
+    WARN,
+    ERROR;
+
+    boolean isError() {
+        return this == FAILURE || this == ERROR;
+    }
+}
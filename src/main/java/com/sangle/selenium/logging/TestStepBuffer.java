@@ -0,0 +1,66 @@
+package com.sangle.selenium.logging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import org.openqa.selenium.By;
+
+/**
+ * Bounded, per-thread buffer of the detailed step events of the running test, used by the failure-only
+ * logging mode. When the buffer is full the oldest events are dropped and counted.
+ */
+final class TestStepBuffer {
+
+    record BufferedEvent(StepStage stage, String elementName, String action, By locator, Object detail,
+                         Throwable throwable, String message, long timestampMillis) {
+    }
+
+    /**
+     * Outcome of a finished test: buffered events in order plus counters for the summary line.
+     */
+    record Contents(String testName, List<BufferedEvent> events, int actions, int dropped, long durationMillis) {
+    }
+
+    private final int capacity;
+    private final ArrayDeque<BufferedEvent> events;
+    private String testName;
+    private int actions;
+    private int dropped;
+    private long startMillis;
+
+    TestStepBuffer(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.events = new ArrayDeque<>(Math.min(this.capacity, 256));
+    }
+
+    boolean isActive() {
+        return testName != null;
+    }
+
+    void begin(String name) {
+        events.clear();
+        testName = name;
+        actions = 0;
+        dropped = 0;
+        startMillis = System.currentTimeMillis();
+    }
+
+    void add(BufferedEvent event) {
+        if (event.stage() == StepStage.START) {
+            actions++;
+        }
+        if (events.size() == capacity) {
+            events.pollFirst();
+            dropped++;
+        }
+        events.addLast(event);
+    }
+
+    Contents finish() {
+        Contents contents = new Contents(testName, new ArrayList<>(events), actions, dropped,
+                System.currentTimeMillis() - startMillis);
+        events.clear();
+        testName = null;
+        return contents;
+    }
+}
@@ -4,6 +4,9 @@ import com.sangle.selenium.config.ConfigManager;
 import com.sangle.selenium.driver.DriverManager;
 import com.sangle.selenium.logging.StepLogger;
 import com.sangle.selenium.utils.WaitUtils;
+import com.sangle.selenium.visual.IgnoreRegion;
+import com.sangle.selenium.visual.VisualValidator;
+import java.util.Collection;
 import org.openqa.selenium.WebDriver;
 
 public abstract class BasePage<T extends BasePage<T>> {
@@ -153,6 +156,18 @@ public abstract class BasePage<T extends BasePage<T>> {
         return self();
     }
     
+    /**
+     * Validates many expected and unexpected texts against one page source in a single pass
+     * @param expectedTexts texts that must be in page source
+     * @param unexpectedTexts texts that must not be in page source
+     * @param message validation message
+     * @return this page for method chaining
+     */
+    public T shouldContainTexts(Collection<String> expectedTexts, Collection<String> unexpectedTexts, String message) {
+        validatePage().sourceContains(expectedTexts, unexpectedTexts, message);
+        return self();
+    }
+    
     /**
      * Validates that page uses HTTPS protocol
      * @param message validation message
@@ -193,4 +208,16 @@ public abstract class BasePage<T extends BasePage<T>> {
         validatePage().responseTimeWithin(maxMilliseconds, message);
         return self();
     }
+    
+    /**
+     * Validates that a screenshot of the viewport matches its visual baseline
+     * @param baselineName baseline file name
+     * @param message validation message
+     * @param ignoredRegions regions excluded from the comparison, see {@link IgnoreRegion#of(org.openqa.selenium.WebElement)}
+     * @return this page for method chaining
+     */
+    public T shouldMatchVisualBaseline(String baselineName, String message, IgnoreRegion... ignoredRegions) {
+        new VisualValidator(driver).pageMatchesBaseline(baselineName, message, ignoredRegions);
+        return self();
+    }
 }
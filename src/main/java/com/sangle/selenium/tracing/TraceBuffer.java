@@ -0,0 +1,64 @@
+package com.sangle.selenium.tracing;
+
+import java.util.Arrays;
+
+/**
+ * Pre-allocated, single-thread buffer of trace events stored in parallel arrays so that recording an event
+ * only writes a timestamp and a few references. Owned and exported by the same test thread.
+ */
+final class TraceBuffer {
+
+    static final char BEGIN = 'B';
+    static final char END = 'E';
+    static final char INSTANT = 'i';
+    private static final int END_RESERVE = 64;
+
+    final long threadId;
+    final String threadName;
+    final long[] timestampsMicros;
+    final char[] phases;
+    final TraceCategory[] categories;
+    final String[] names;
+    final Object[] details;
+    int size;
+    int dropped;
+    int openActions;
+    String testName;
+
+    TraceBuffer(int requestedCapacity, Thread owner) {
+        int capacity = Math.max(requestedCapacity, END_RESERVE * 2);
+        this.threadId = owner.getId();
+        this.threadName = owner.getName();
+        this.timestampsMicros = new long[capacity];
+        this.phases = new char[capacity];
+        this.categories = new TraceCategory[capacity];
+        this.names = new String[capacity];
+        this.details = new Object[capacity];
+    }
+
+    /**
+     * Records an event; the last slots are reserved for END events so that open spans can still be closed.
+     */
+    void add(char phase, TraceCategory category, String name, Object detail, long timestampMicros) {
+        int limit = phase == END ? phases.length : phases.length - END_RESERVE;
+        if (size >= limit) {
+            dropped++;
+            return;
+        }
+        timestampsMicros[size] = timestampMicros;
+        phases[size] = phase;
+        categories[size] = category;
+        names[size] = name;
+        details[size] = detail;
+        size++;
+    }
+
+    void reset() {
+        Arrays.fill(names, 0, size, null);
+        Arrays.fill(details, 0, size, null);
+        size = 0;
+        dropped = 0;
+        openActions = 0;
+        testName = null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.sangle.selenium.tracing;
+
+/**
+ * Category of a trace event, exported as the {@code cat} field of the Chrome trace-event format.
+ */
+public enum TraceCategory {
+    TEST("test"),
+    STEP("step"),
+    ACTION("action"),
+    WAIT("wait"),
+    RETRY("retry"),
+    DRIVER("driver"),
+    SCREENSHOT("screenshot");
+
+    private final String label;
+
+    TraceCategory(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,101 @@
+package com.sangle.selenium.tracing;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes {@link TraceBuffer} contents in the Chrome trace-event JSON array format, loadable in
+ * {@code chrome://tracing} or Perfetto.
+ */
+final class TraceExporter {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final int DETAIL_MAX_LENGTH = 200;
+
+    private final long processId;
+
+    TraceExporter(long processId) {
+        this.processId = processId;
+    }
+
+    Path writeTestTrace(Path path, TraceBuffer buffer) throws IOException {
+        Files.createDirectories(path.getParent());
+        try (OutputStream stream = Files.newOutputStream(path);
+             JsonGenerator generator = FACTORY.createGenerator(stream, JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            writeEvents(generator, buffer);
+            generator.writeEndArray();
+        }
+        return path;
+    }
+
+    JsonGenerator openSuiteTrace(Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        JsonGenerator generator = FACTORY.createGenerator(Files.newOutputStream(path), JsonEncoding.UTF8);
+        generator.writeStartArray();
+        return generator;
+    }
+
+    void writeEvents(JsonGenerator generator, TraceBuffer buffer) throws IOException {
+        writeThreadName(generator, buffer);
+        for (int index = 0; index < buffer.size; index++) {
+            TraceCategory category = buffer.categories[index];
+            Object detail = buffer.details[index];
+            generator.writeStartObject();
+            if (category == TraceCategory.ACTION && detail != null) {
+                generator.writeStringField("name", buffer.names[index] + " -> " + detail);
+                detail = null;
+            } else {
+                generator.writeStringField("name", buffer.names[index]);
+            }
+            generator.writeStringField("cat", category.getLabel());
+            generator.writeStringField("ph", String.valueOf(buffer.phases[index]));
+            generator.writeNumberField("ts", buffer.timestampsMicros[index]);
+            generator.writeNumberField("pid", processId);
+            generator.writeNumberField("tid", buffer.threadId);
+            if (buffer.phases[index] == TraceBuffer.INSTANT) {
+                generator.writeStringField("s", "t");
+            }
+            if (detail != null) {
+                generator.writeObjectFieldStart("args");
+                generator.writeStringField("detail", truncate(String.valueOf(detail)));
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        }
+        if (buffer.dropped > 0) {
+            generator.writeStartObject();
+            generator.writeStringField("name", "trace buffer full");
+            generator.writeStringField("ph", "i");
+            generator.writeStringField("s", "t");
+            generator.writeNumberField("ts", buffer.size == 0 ? 0 : buffer.timestampsMicros[buffer.size - 1]);
+            generator.writeNumberField("pid", processId);
+            generator.writeNumberField("tid", buffer.threadId);
+            generator.writeObjectFieldStart("args");
+            generator.writeNumberField("droppedEvents", buffer.dropped);
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeThreadName(JsonGenerator generator, TraceBuffer buffer) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", "thread_name");
+        generator.writeStringField("ph", "M");
+        generator.writeNumberField("pid", processId);
+        generator.writeNumberField("tid", buffer.threadId);
+        generator.writeObjectFieldStart("args");
+        generator.writeStringField("name", buffer.threadName);
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= DETAIL_MAX_LENGTH ? value : value.substring(0, DETAIL_MAX_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,176 @@
+package com.sangle.selenium.tracing;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sangle.selenium.config.ConfigManager;
+import com.sangle.selenium.config.FrameworkConfig;
+import com.sangle.selenium.constants.FrameworkConstants;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records a per-thread timeline of tests, steps, element actions, waits, retries, driver commands and
+ * screenshots, and exports it in the Chrome trace-event format. Every test gets its own trace file and all
+ * tests are also appended to a suite-wide trace that shows how parallel threads interleave.
+ */
+public final class TraceRecorder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TraceRecorder.class);
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+    private static final FrameworkConfig CONFIG = ConfigManager.getConfig();
+    private static final boolean ENABLED = CONFIG.traceEnabled();
+    private static final long ORIGIN_NANOS = System.nanoTime();
+    private static final long ORIGIN_EPOCH_MICROS = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    private static final ThreadLocal<TraceBuffer> BUFFER =
+            ThreadLocal.withInitial(() -> new TraceBuffer(CONFIG.traceBufferSize(), Thread.currentThread()));
+    private static final TraceExporter EXPORTER = new TraceExporter(ProcessHandle.current().pid());
+    private static final Object SUITE_LOCK = new Object();
+    private static JsonGenerator suiteTrace;
+
+    static {
+        if (ENABLED) {
+            Runtime.getRuntime().addShutdownHook(new Thread(TraceRecorder::closeSuiteTrace, "trace-shutdown"));
+        }
+    }
+
+    private TraceRecorder() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static void begin(TraceCategory category, String name, Object detail) {
+        if (ENABLED) {
+            BUFFER.get().add(TraceBuffer.BEGIN, category, name, detail, now());
+        }
+    }
+
+    public static void end(TraceCategory category, String name) {
+        if (ENABLED) {
+            BUFFER.get().add(TraceBuffer.END, category, name, null, now());
+        }
+    }
+
+    public static void instant(TraceCategory category, String name, Object detail) {
+        if (ENABLED) {
+            BUFFER.get().add(TraceBuffer.INSTANT, category, name, detail, now());
+        }
+    }
+
+    /**
+     * Opens an element action span; paired with {@link #actionEnded(String, String)}.
+     */
+    public static void actionStarted(String elementName, String action) {
+        if (ENABLED) {
+            TraceBuffer buffer = BUFFER.get();
+            buffer.openActions++;
+            buffer.add(TraceBuffer.BEGIN, TraceCategory.ACTION, elementName, action, now());
+        }
+    }
+
+    /**
+     * Closes the innermost open action span. Extra outcomes for the same attempt (such as a recovery after a
+     * failure) are recorded as instant events instead of unbalanced ends.
+     */
+    public static void actionEnded(String elementName, String action) {
+        if (!ENABLED) {
+            return;
+        }
+        TraceBuffer buffer = BUFFER.get();
+        if (buffer.openActions == 0) {
+            buffer.add(TraceBuffer.INSTANT, TraceCategory.ACTION, elementName, action, now());
+            return;
+        }
+        buffer.openActions--;
+        buffer.add(TraceBuffer.END, TraceCategory.ACTION, elementName, action, now());
+    }
+
+    /**
+     * Opens the test span on the current thread. Events recorded since the last export or discard (such as the
+     * driver setup of a before-method) stay in the timeline of this test.
+     * @param testName test name used for the span and the trace file name
+     */
+    public static void beginTest(String testName) {
+        if (!ENABLED) {
+            return;
+        }
+        TraceBuffer buffer = BUFFER.get();
+        buffer.testName = testName;
+        buffer.add(TraceBuffer.BEGIN, TraceCategory.TEST, testName, null, now());
+    }
+
+    /**
+     * Closes the test span and exports the current thread's timeline.
+     * @param passed whether the test invocation passed
+     * @return path of the per-test trace file, or null when tracing is disabled or the export failed
+     */
+    public static Path endTest(boolean passed) {
+        if (!ENABLED) {
+            return null;
+        }
+        TraceBuffer buffer = BUFFER.get();
+        String testName = buffer.testName == null ? "unnamed" : buffer.testName;
+        while (buffer.openActions > 0) {
+            actionEnded(testName, null);
+        }
+        buffer.add(TraceBuffer.END, TraceCategory.TEST, testName, passed ? "passed" : "failed", now());
+        Path tracePath = Paths.get("target", FrameworkConstants.TRACE_DIR,
+                testName.replaceAll("[^a-zA-Z0-9_-]", "_") + "_" + FORMATTER.format(LocalDateTime.now()) + ".json");
+        try {
+            EXPORTER.writeTestTrace(tracePath, buffer);
+            appendToSuiteTrace(buffer);
+            return tracePath;
+        } catch (IOException exception) {
+            LOG.warn("Failed to export trace for {}: {}", testName, exception.getMessage());
+            return null;
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    /**
+     * Drops the events recorded on the current thread since the last export, e.g. the teardown of a test.
+     */
+    public static void discard() {
+        if (ENABLED) {
+            BUFFER.get().reset();
+        }
+    }
+
+    private static void appendToSuiteTrace(TraceBuffer buffer) throws IOException {
+        synchronized (SUITE_LOCK) {
+            if (suiteTrace == null) {
+                suiteTrace = EXPORTER.openSuiteTrace(Paths.get("target", FrameworkConstants.TRACE_DIR,
+                        "suite-trace.json"));
+            }
+            EXPORTER.writeEvents(suiteTrace, buffer);
+            suiteTrace.flush();
+        }
+    }
+
+    private static void closeSuiteTrace() {
+        synchronized (SUITE_LOCK) {
+            if (suiteTrace == null) {
+                return;
+            }
+            try {
+                suiteTrace.writeEndArray();
+                suiteTrace.close();
+            } catch (IOException exception) {
+                LOG.warn("Failed to close suite trace: {}", exception.getMessage());
+            }
+            suiteTrace = null;
+        }
+    }
+
+    private static long now() {
+        return ORIGIN_EPOCH_MICROS + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - ORIGIN_NANOS);
+    }
+}
@@ -3,12 +3,15 @@ package com.sangle.selenium.utils;
 import com.opencsv.CSVReader;
 import com.opencsv.bean.ColumnPositionMappingStrategy;
 import com.opencsv.bean.CsvToBeanBuilder;
+import com.sangle.selenium.data.DataRow;
+import com.sangle.selenium.data.DataSnapshot;
+import com.sangle.selenium.data.RowQuery;
+import com.sangle.selenium.data.TestDataCache;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -27,18 +30,47 @@ public final class CsvHelper {
     }
 
     public static List<Map<String, String>> readAsMaps(Path path) {
-        try (Reader reader = Files.newBufferedReader(path); CSVReader csvReader = new CSVReader(reader)) {
-            List<String[]> rows = csvReader.readAll();
-            if (rows.isEmpty()) {
-                return List.of();
+        return readAsMaps(path, RowQuery.all());
+    }
+
+    /**
+     * Reads the rows of a CSV file that match the query, keeping only its columns. The list and its rows come from
+     * {@link TestDataCache} and are shared between threads, so both are read-only; copy a row before changing it.
+     */
+    public static List<Map<String, String>> readAsMaps(Path path, RowQuery query) {
+        return TestDataCache.file(path, "csv:" + query.key(), () -> {
+            try (RowIterator rows = iterateAsMaps(path, query)) {
+                return rows.toList();
             }
-            String[] headers = rows.get(0);
-            return rows.stream().skip(1).map(row -> mapRow(headers, row)).toList();
+        });
+    }
+
+    /**
+     * Streams the rows of a CSV file keyed by its header, reading one line per {@code next()}.
+     */
+    public static RowIterator iterateAsMaps(Path path) {
+        return iterateAsMaps(path, RowQuery.all());
+    }
+
+    /**
+     * Streams the rows of a CSV file that match the query, keeping only its columns.
+     */
+    public static RowIterator iterateAsMaps(Path path, RowQuery query) {
+        try {
+            return new CsvRowIterator(path.toString(), Files.newBufferedReader(path), query);
         } catch (Exception exception) {
             throw new IllegalStateException("Unable to read CSV file: " + path, exception);
         }
     }
 
+    /**
+     * Maps the binary snapshot of a CSV file for random access without parsing, building it when the file is
+     * new or has changed.
+     */
+    public static DataSnapshot openSnapshot(Path path) {
+        return DataSnapshot.open(path, "csv", () -> iterateAsMaps(path));
+    }
+
     public static <T> List<T> readBeans(Path path, Class<T> type, String... columns) {
         try (Reader reader = Files.newBufferedReader(path)) {
             ColumnPositionMappingStrategy<T> strategy = new ColumnPositionMappingStrategy<>();
@@ -56,24 +88,99 @@ public final class CsvHelper {
     }
 
     public static List<Map<String, String>> readAsMapsFromResource(String resource) {
-        try (Reader reader = new InputStreamReader(getResourceAsStream(resource)); CSVReader csvReader = new CSVReader(reader)) {
-            List<String[]> rows = csvReader.readAll();
-            if (rows.isEmpty()) {
-                return List.of();
+        return readAsMapsFromResource(resource, RowQuery.all());
+    }
+
+    /**
+     * Reads the rows of a CSV classpath resource that match the query, keeping only its columns. The list and its
+     * rows are shared and read-only, as for {@link #readAsMaps(Path, RowQuery)}.
+     */
+    public static List<Map<String, String>> readAsMapsFromResource(String resource, RowQuery query) {
+        return TestDataCache.resource(resource, "csv:" + query.key(), () -> {
+            try (RowIterator rows = iterateAsMapsFromResource(resource, query)) {
+                return rows.toList();
             }
-            String[] headers = rows.get(0);
-            return rows.stream().skip(1).map(row -> mapRow(headers, row)).toList();
+        });
+    }
+
+    /**
+     * Streams the rows of a CSV classpath resource keyed by its header.
+     */
+    public static RowIterator iterateAsMapsFromResource(String resource) {
+        return iterateAsMapsFromResource(resource, RowQuery.all());
+    }
+
+    /**
+     * Streams the rows of a CSV classpath resource that match the query, keeping only its columns.
+     */
+    public static RowIterator iterateAsMapsFromResource(String resource, RowQuery query) {
+        try {
+            return new CsvRowIterator(resource, new InputStreamReader(getResourceAsStream(resource)), query);
         } catch (Exception exception) {
             throw new IllegalStateException("Unable to read CSV resource: " + resource, exception);
         }
     }
 
-    private static Map<String, String> mapRow(String[] headers, String[] row) {
-        Map<String, String> mapped = new HashMap<>();
-        for (int index = 0; index < headers.length && index < row.length; index++) {
-            mapped.put(headers[index], row[index]);
+    /**
+     * Appends one CSV line, quoting the values that contain a separator, quote, backslash or line break as opencsv
+     * reads them: its default parser treats a backslash as an escape character, so backslashes are doubled.
+     * Carriage returns inside a value do not survive opencsv's line reader, which drops them.
+     */
+    static void appendRow(StringBuilder line, List<String> values) {
+        for (int index = 0; index < values.size(); index++) {
+            if (index > 0) {
+                line.append(',');
+            }
+            String value = values.get(index);
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\\') < 0 && value.indexOf('\n') < 0
+                    && value.indexOf('\r') < 0) {
+                line.append(value);
+            } else {
+                line.append('"').append(value.replace("\\", "\\\\").replace("\"", "\"\"")).append('"');
+            }
+        }
+        line.append('\n');
+    }
+
+    private static final class CsvRowIterator extends RowIterator {
+
+        private final CSVReader csvReader;
+        private final RowQuery.Positional query;
+
+        CsvRowIterator(String source, Reader reader, RowQuery query) throws Exception {
+            super(source);
+            this.csvReader = new CSVReader(reader);
+            try {
+                String[] headers = csvReader.readNext();
+                this.query = headers == null ? null : query.bind(List.of(headers));
+            } catch (Exception exception) {
+                csvReader.close();
+                throw exception;
+            }
+        }
+
+        @Override
+        protected Map<String, String> fetch() throws Exception {
+            if (query == null) {
+                return null;
+            }
+            String[] row;
+            while ((row = csvReader.readNext()) != null) {
+                DataRow matching = query.apply(row);
+                if (matching != null) {
+                    return matching;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        protected void release() throws IOException {
+            csvReader.close();
         }
-        return mapped;
     }
 
     private static java.io.InputStream getResourceAsStream(String resource) throws IOException {
@@ -0,0 +1,220 @@
+package com.sangle.selenium.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import net.datafaker.Faker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes large generated data files for {@link CsvHelper} and {@link JsonHelper} to read back. Records are
+ * generated and formatted in parallel chunks on the {@link FakerUtil} pool and appended in order to a buffered
+ * file, so memory stays flat whatever the record count; the same seed always writes the same file.
+ * <pre>
+ * DataGenerator.builder()
+ *         .column("username", faker -&gt; faker.internet().username())
+ *         .column("city", faker -&gt; faker.address().city())
+ *         .build()
+ *         .writeCsv(Paths.get("target/data/users.csv"), 1_000_000);
+ * </pre>
+ */
+public final class DataGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DataGenerator.class);
+    private static final int CHUNK_SIZE = 2048;
+
+    private final List<String> columns;
+    private final List<BiFunction<Faker, List<String>, String>> values;
+
+    private DataGenerator(List<String> columns, List<BiFunction<Faker, List<String>, String>> values) {
+        this.columns = List.copyOf(columns);
+        this.values = List.copyOf(values);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The columns of {@link FakeUser}.
+     */
+    public static DataGenerator users() {
+        return builder()
+                .column("firstName", faker -> faker.name().firstName())
+                .column("lastName", faker -> faker.name().lastName())
+                .column("email", (faker, row) -> FakerUtil.email(faker, row.get(0), row.get(1)))
+                .column("phoneNumber", faker -> faker.phoneNumber().cellPhone())
+                .column("streetAddress", faker -> faker.address().streetAddress())
+                .column("city", faker -> faker.address().city())
+                .column("postalCode", faker -> faker.address().zipCode())
+                .build();
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    public GenerationReport writeCsv(Path path, long count) {
+        return writeCsv(path, count, FakerUtil.runSeed());
+    }
+
+    /**
+     * Writes a header line and {@code count} records as CSV.
+     */
+    public GenerationReport writeCsv(Path path, long count, long seed) {
+        return write(path, count, seed, header -> {
+            StringBuilder line = new StringBuilder();
+            CsvHelper.appendRow(line, columns);
+            header.write(line.toString());
+        }, this::formatCsv);
+    }
+
+    public GenerationReport writeNdjson(Path path, long count) {
+        return writeNdjson(path, count, FakerUtil.runSeed());
+    }
+
+    /**
+     * Writes {@code count} records as newline-delimited JSON objects.
+     */
+    public GenerationReport writeNdjson(Path path, long count, long seed) {
+        return write(path, count, seed, header -> {
+        }, this::formatNdjson);
+    }
+
+    private GenerationReport write(Path path, long count, long seed, HeaderWriter header,
+                                   FakerUtil.ChunkTask<String> chunk) {
+        long started = System.nanoTime();
+        List<MemoryPoolMXBean> heapPools = heapPools();
+        long[] peakHeap = {heapUsed(heapPools)};
+        long bytes;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                header.write(writer);
+                FakerUtil.generateInChunks(seed, count, CHUNK_SIZE, chunk, text -> {
+                    try {
+                        writer.write(text);
+                    } catch (IOException exception) {
+                        throw new UncheckedIOException(exception);
+                    }
+                    peakHeap[0] = Math.max(peakHeap[0], heapUsed(heapPools));
+                });
+            }
+            bytes = Files.size(path);
+        } catch (IOException | UncheckedIOException exception) {
+            throw new IllegalStateException("Unable to write generated data: " + path, exception);
+        }
+        GenerationReport report = new GenerationReport(path, count, bytes,
+                Duration.ofNanos(System.nanoTime() - started), peakHeap[0]);
+        LOG.info("Generated {} records into {} in {} ms ({} records/s, {} bytes, peak heap {} MB)", count, path,
+                report.elapsed().toMillis(), Math.round(report.recordsPerSecond()), report.bytes(),
+                report.peakHeapMegabytes());
+        return report;
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+    }
+
+    private static long heapUsed(List<MemoryPoolMXBean> heapPools) {
+        long used = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            used += pool.getUsage().getUsed();
+        }
+        return used;
+    }
+
+    private String formatCsv(Faker faker, long start, int size) {
+        StringBuilder text = new StringBuilder(size * 128);
+        List<String> record = new ArrayList<>(values.size());
+        for (int index = 0; index < size; index++) {
+            record.clear();
+            for (BiFunction<Faker, List<String>, String> value : values) {
+                record.add(value.apply(faker, record));
+            }
+            CsvHelper.appendRow(text, record);
+        }
+        return text.toString();
+    }
+
+    private String formatNdjson(Faker faker, long start, int size) throws IOException {
+        StringWriter text = new StringWriter(size * 192);
+        List<String> record = new ArrayList<>(values.size());
+        try (JsonGenerator generator = JsonHelper.newCompactGenerator(text)) {
+            for (int index = 0; index < size; index++) {
+                record.clear();
+                generator.writeStartObject();
+                for (int column = 0; column < columns.size(); column++) {
+                    String value = values.get(column).apply(faker, record);
+                    record.add(value);
+                    generator.writeStringField(columns.get(column), value);
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    @FunctionalInterface
+    private interface HeaderWriter {
+        void write(Writer writer) throws IOException;
+    }
+
+    public static final class Builder {
+
+        private final List<String> columns = new ArrayList<>();
+        private final List<BiFunction<Faker, List<String>, String>> values = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a column whose value is produced from the chunk's seeded faker; use the faker rather than
+         * {@link FakerUtil}'s static methods so the file stays reproducible.
+         */
+        public Builder column(String name, Function<Faker, String> value) {
+            Objects.requireNonNull(value, "value");
+            return column(name, (faker, row) -> value.apply(faker));
+        }
+
+        /**
+         * Adds a column derived from the values already generated for the row, given in column order, such as an
+         * email built from the name columns.
+         */
+        public Builder column(String name, BiFunction<Faker, List<String>, String> value) {
+            if (columns.contains(name)) {
+                throw new IllegalArgumentException("Duplicate column: " + name);
+            }
+            columns.add(Objects.requireNonNull(name, "name"));
+            values.add(Objects.requireNonNull(value, "value"));
+            return this;
+        }
+
+        public DataGenerator build() {
+            if (columns.isEmpty()) {
+                throw new IllegalStateException("A data generator needs at least one column");
+            }
+            return new DataGenerator(columns, values);
+        }
+    }
+}
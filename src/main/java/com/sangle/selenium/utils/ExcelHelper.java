@@ -1,14 +1,18 @@
 package com.sangle.selenium.utils;
 
+import com.sangle.selenium.data.DataRow;
+import com.sangle.selenium.data.DataSnapshot;
+import com.sangle.selenium.data.RowQuery;
+import com.sangle.selenium.data.TestDataCache;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
@@ -22,6 +26,14 @@ public final class ExcelHelper {
     }
 
     public static List<Map<String, String>> readSheet(Path path, String sheetName) {
+        return TestDataCache.file(path, "sheet:" + sheetName, () -> parseSheet(path, sheetName));
+    }
+
+    public static List<Map<String, String>> readSheetFromResource(String resource, String sheetName) {
+        return TestDataCache.resource(resource, "sheet:" + sheetName, () -> parseSheetFromResource(resource, sheetName));
+    }
+
+    private static List<Map<String, String>> parseSheet(Path path, String sheetName) {
         try (InputStream stream = Files.newInputStream(path); Workbook workbook = WorkbookFactory.create(stream)) {
             Sheet sheet = workbook.getSheet(sheetName);
             if (sheet == null) {
@@ -33,7 +45,7 @@ public final class ExcelHelper {
         }
     }
 
-    public static List<Map<String, String>> readSheetFromResource(String resource, String sheetName) {
+    private static List<Map<String, String>> parseSheetFromResource(String resource, String sheetName) {
         try (InputStream stream = getResourceAsStream(resource); Workbook workbook = WorkbookFactory.create(stream)) {
             Sheet sheet = workbook.getSheet(sheetName);
             if (sheet == null) {
@@ -45,25 +57,108 @@ public final class ExcelHelper {
         }
     }
 
+    /**
+     * Reads a sheet like {@link #readSheet(Path, String)} but streams {@code .xlsx} files from their XML instead
+     * of loading the workbook, which keeps memory flat for large workbooks.
+     */
+    public static List<Map<String, String>> readSheetStreaming(Path path, String sheetName) {
+        return readSheetStreaming(path, sheetName, RowQuery.all());
+    }
+
+    /**
+     * Reads the rows of a sheet that match the query, keeping only its columns.
+     */
+    public static List<Map<String, String>> readSheetStreaming(Path path, String sheetName, RowQuery query) {
+        return TestDataCache.file(path, "sheet-stream:" + sheetName + ":" + query.key(), () -> {
+            try (RowIterator rows = iterateSheet(path, sheetName, query)) {
+                return rows.toList();
+            }
+        });
+    }
+
+    /**
+     * Iterates the rows of a sheet keyed by its header row, reading one row per {@code next()}. {@code .xlsx}
+     * files are streamed from the sheet XML; other formats fall back to the loaded workbook. The iterator closes
+     * the file after the last row.
+     */
+    public static RowIterator iterateSheet(Path path, String sheetName) {
+        return iterateSheet(path, sheetName, RowQuery.all());
+    }
+
+    /**
+     * Iterates the rows of a sheet that match the query, keeping only its columns.
+     */
+    public static RowIterator iterateSheet(Path path, String sheetName, RowQuery query) {
+        try {
+            if (isOoxml(path)) {
+                return XlsxRowIterator.open(path, sheetName, query);
+            }
+            return new SheetRowIterator(path.toString(), WorkbookFactory.create(path.toFile(), null, true), sheetName,
+                    query);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to read Excel file: " + path, exception);
+        }
+    }
+
+    /**
+     * Maps the binary snapshot of a sheet for random access without parsing, building it when the workbook is new
+     * or has changed.
+     */
+    public static DataSnapshot openSnapshot(Path path, String sheetName) {
+        return DataSnapshot.open(path, "sheet_" + sheetName, () -> iterateSheet(path, sheetName));
+    }
+
+    /**
+     * Streams the rows of an {@code .xlsx} classpath resource keyed by its header row.
+     */
+    public static RowIterator iterateSheetFromResource(String resource, String sheetName) {
+        return iterateSheetFromResource(resource, sheetName, RowQuery.all());
+    }
+
+    /**
+     * Streams the rows of an {@code .xlsx} classpath resource that match the query, keeping only its columns.
+     */
+    public static RowIterator iterateSheetFromResource(String resource, String sheetName, RowQuery query) {
+        try {
+            return XlsxRowIterator.open(resource, getResourceAsStream(resource), sheetName, query);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to read Excel resource: " + resource, exception);
+        }
+    }
+
+    private static boolean isOoxml(Path path) throws IOException {
+        try (InputStream stream = FileMagic.prepareToCheckMagic(Files.newInputStream(path))) {
+            return FileMagic.valueOf(stream) == FileMagic.OOXML;
+        }
+    }
+
     private static List<Map<String, String>> toMapList(Iterator<Row> rowIterator) {
         List<Map<String, String>> rows = new ArrayList<>();
         if (!rowIterator.hasNext()) {
             return rows;
         }
-        Row headerRow = rowIterator.next();
+        List<String> headers = readHeaders(rowIterator.next());
+        RowQuery.Positional query = RowQuery.all().bind(headers);
+        while (rowIterator.hasNext()) {
+            rows.add(toRow(query, headers.size(), rowIterator.next()));
+        }
+        return rows;
+    }
+
+    private static List<String> readHeaders(Row headerRow) {
         List<String> headers = new ArrayList<>();
         headerRow.forEach(cell -> headers.add(cell.getStringCellValue()));
+        return headers;
+    }
 
-        while (rowIterator.hasNext()) {
-            Row row = rowIterator.next();
-            Map<String, String> rowMap = new HashMap<>();
-            for (int cellIndex = 0; cellIndex < headers.size(); cellIndex++) {
-                Cell cell = row.getCell(cellIndex, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-                rowMap.put(headers.get(cellIndex), cellToString(cell));
+    private static DataRow toRow(RowQuery.Positional query, int headerCount, Row row) {
+        String[] values = new String[headerCount];
+        for (int cellIndex = 0; cellIndex < values.length; cellIndex++) {
+            if (query.needs(cellIndex)) {
+                values[cellIndex] = cellToString(row.getCell(cellIndex, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK));
             }
-            rows.add(rowMap);
         }
-        return rows;
+        return query.apply(values);
     }
 
     private static String cellToString(Cell cell) {
@@ -81,6 +176,44 @@ public final class ExcelHelper {
         };
     }
 
+    private static final class SheetRowIterator extends RowIterator {
+
+        private final Workbook workbook;
+        private final Iterator<Row> rowIterator;
+        private final RowQuery.Positional query;
+        private final int headerCount;
+
+        SheetRowIterator(String source, Workbook workbook, String sheetName, RowQuery query) throws IOException {
+            super(source);
+            this.workbook = workbook;
+            Sheet sheet = workbook.getSheet(sheetName);
+            if (sheet == null) {
+                workbook.close();
+                throw new IllegalArgumentException("Sheet not found: " + sheetName);
+            }
+            this.rowIterator = sheet.iterator();
+            List<String> headers = rowIterator.hasNext() ? readHeaders(rowIterator.next()) : List.of();
+            this.query = query.bind(headers);
+            this.headerCount = headers.size();
+        }
+
+        @Override
+        protected Map<String, String> fetch() {
+            while (rowIterator.hasNext()) {
+                DataRow row = toRow(query, headerCount, rowIterator.next());
+                if (row != null) {
+                    return row;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        protected void release() throws IOException {
+            workbook.close();
+        }
+    }
+
     private static InputStream getResourceAsStream(String resource) throws IOException {
         InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource);
         if (stream == null) {
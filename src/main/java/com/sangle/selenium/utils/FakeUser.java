@@ -0,0 +1,12 @@
+package com.sangle.selenium.utils;
+
+public record FakeUser(
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber,
+        String streetAddress,
+        String city,
+        String postalCode
+) {
+}
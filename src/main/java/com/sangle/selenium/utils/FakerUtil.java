@@ -1,48 +1,244 @@
 package com.sangle.selenium.utils;
 
+import com.sangle.selenium.config.ConfigManager;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 import net.datafaker.Faker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Fake test data from per-thread {@link Faker}s, so threads neither share nor contend on one generator. All
+ * generators derive from a run seed, {@code faker.seed} or a random one logged at startup, and the test listener
+ * reseeds the current thread's generator from the run seed and the test name before every test: rerunning with
+ * {@code -Dfaker.seed=<logged seed>} replays the same data for each test whatever thread runs it. Batches of
+ * users are generated in parallel in fixed-size chunks, each seeded from the batch seed and its position, so a
+ * batch is the same for the same seed on any number of threads.
+ */
 public final class FakerUtil {
 
-    private static final Faker FAKER = new Faker();
+    private static final Logger LOG = LoggerFactory.getLogger(FakerUtil.class);
+    private static final int CHUNK_SIZE = 512;
+    private static final Pattern NOT_EMAIL_SAFE = Pattern.compile("[^a-z0-9.]");
+    private static final long RUN_SEED = runSeed(ConfigManager.getConfig().fakerSeed());
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ThreadLocal<SeededFaker> FAKERS =
+            ThreadLocal.withInitial(() -> new SeededFaker(mix(RUN_SEED, THREAD_COUNTER.incrementAndGet())));
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(poolSize(), runnable -> {
+        Thread thread = new Thread(runnable, "faker-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private FakerUtil() {
         throw new IllegalStateException("Utility class");
     }
 
+    public static long runSeed() {
+        return RUN_SEED;
+    }
+
+    /**
+     * The current thread's generator, for values without a shortcut here.
+     */
+    public static Faker faker() {
+        return FAKERS.get().faker;
+    }
+
+    /**
+     * Reseeds the current thread's generator from the run seed and a key such as the test name, so the values
+     * generated after it only depend on the run seed and the key.
+     */
+    public static void reseed(String key) {
+        FAKERS.get().seed(mix(RUN_SEED, hash(key)));
+    }
+
     public static String firstName() {
-        return FAKER.name().firstName();
+        return faker().name().firstName();
     }
 
     public static String lastName() {
-        return FAKER.name().lastName();
+        return faker().name().lastName();
     }
 
     public static String fullName() {
-        return FAKER.name().fullName();
+        return faker().name().fullName();
     }
 
     public static String email() {
-        return FAKER.internet().emailAddress();
+        return faker().internet().emailAddress();
+    }
+
+    /**
+     * A fake name made unique with {@link UniqueIds}, for entities that must not collide across parallel tests.
+     */
+    public static String uniqueEmail() {
+        return UniqueIds.email(firstName() + "." + lastName());
+    }
+
+    public static String uniqueUsername() {
+        return UniqueIds.username(firstName() + "." + lastName());
     }
 
     public static String phoneNumber() {
-        return FAKER.phoneNumber().cellPhone();
+        return faker().phoneNumber().cellPhone();
     }
 
     public static String city() {
-        return FAKER.address().city();
+        return faker().address().city();
     }
 
     public static String streetAddress() {
-        return FAKER.address().streetAddress();
+        return faker().address().streetAddress();
     }
 
     public static String postalCode() {
-        return FAKER.address().zipCode();
+        return faker().address().zipCode();
     }
 
     public static String company() {
-        return FAKER.company().name();
+        return faker().company().name();
+    }
+
+    public static FakeUser user() {
+        return user(faker());
+    }
+
+    /**
+     * Generates users in parallel from a seed drawn from the current thread's generator.
+     */
+    public static List<FakeUser> users(int count) {
+        return users(FAKERS.get().random.nextLong(), count);
+    }
+
+    /**
+     * Generates users in parallel on the {@code faker.threads} pool; the same seed and count always give the same
+     * users in the same order.
+     */
+    public static List<FakeUser> users(long seed, int count) {
+        List<FakeUser> users = new ArrayList<>(count);
+        generateInChunks(seed, count, CHUNK_SIZE, (faker, start, size) -> {
+            List<FakeUser> chunk = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                chunk.add(user(faker));
+            }
+            return chunk;
+        }, users::addAll);
+        return users;
+    }
+
+    /**
+     * Runs {@code task} for consecutive chunks of {@code count} records on the generation pool, each with a faker
+     * seeded from {@code seed} and the chunk start, and hands the results to {@code sink} in chunk order on the
+     * calling thread. At most two chunks per pool thread are pending at a time, so memory does not grow with
+     * {@code count}.
+     */
+    static <T> void generateInChunks(long seed, long count, int chunkSize, ChunkTask<T> task, Consumer<T> sink) {
+        Deque<Future<T>> pending = new ArrayDeque<>();
+        int window = poolSize() * 2;
+        try {
+            for (long start = 0; start < count; start += chunkSize) {
+                long chunkStart = start;
+                int size = (int) Math.min(chunkSize, count - start);
+                pending.add(POOL.submit(() -> {
+                    SeededFaker generator = FAKERS.get();
+                    generator.seed(mix(seed, chunkStart));
+                    return task.generate(generator.faker, chunkStart, size);
+                }));
+                if (pending.size() >= window) {
+                    sink.accept(pending.remove().get());
+                }
+            }
+            while (!pending.isEmpty()) {
+                sink.accept(pending.remove().get());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Fake data generation interrupted", exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Fake data generation failed", exception.getCause());
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Builds the email from the generated names instead of letting the faker resolve another name for it.
+     */
+    private static FakeUser user(Faker faker) {
+        String firstName = faker.name().firstName();
+        String lastName = faker.name().lastName();
+        return new FakeUser(firstName, lastName, email(faker, firstName, lastName),
+                faker.phoneNumber().cellPhone(), faker.address().streetAddress(), faker.address().city(),
+                faker.address().zipCode());
+    }
+
+    static String email(Faker faker, String firstName, String lastName) {
+        String localPart = NOT_EMAIL_SAFE.matcher((firstName + "." + lastName).toLowerCase(Locale.ROOT)).replaceAll("")
+                + faker.number().numberBetween(1, 10_000);
+        return faker.internet().emailAddress(localPart);
+    }
+
+    private static long runSeed(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return Long.parseLong(configured.trim());
+        }
+        long seed = new Random().nextLong();
+        LOG.info("Fake data run seed: {} (rerun with -Dfaker.seed={} to replay)", seed, seed);
+        return seed;
+    }
+
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int index = 0; index < key.length(); index++) {
+            hash = (hash ^ key.charAt(index)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long seed, long value) {
+        long mixed = seed + value * 0x9e3779b97f4a7c15L;
+        mixed = (mixed ^ (mixed >>> 30)) * 0xbf58476d1ce4e5b9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94d049bb133111ebL;
+        return mixed ^ (mixed >>> 31);
+    }
+
+    private static int poolSize() {
+        int configured = ConfigManager.getConfig().fakerThreads();
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Generates one chunk of records.
+     */
+    @FunctionalInterface
+    interface ChunkTask<T> {
+        T generate(Faker faker, long start, int size) throws Exception;
+    }
+
+    private static final class SeededFaker {
+
+        private final Random random;
+        private final Faker faker;
+
+        SeededFaker(long seed) {
+            this.random = new Random(seed);
+            this.faker = new Faker(random);
+        }
+
+        void seed(long seed) {
+            random.setSeed(seed);
+        }
     }
 }
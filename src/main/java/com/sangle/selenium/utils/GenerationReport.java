@@ -0,0 +1,20 @@
+package com.sangle.selenium.utils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Outcome of a {@link DataGenerator} write. {@code peakHeapBytes} is the highest heap usage sampled after each
+ * chunk was written, summed over the heap memory pools, so it includes whatever else the JVM held at the time.
+ */
+public record GenerationReport(Path file, long records, long bytes, Duration elapsed, long peakHeapBytes) {
+
+    public double recordsPerSecond() {
+        long nanos = Math.max(1, elapsed.toNanos());
+        return records * 1_000_000_000.0 / nanos;
+    }
+
+    public long peakHeapMegabytes() {
+        return peakHeapBytes / (1024 * 1024);
+    }
+}
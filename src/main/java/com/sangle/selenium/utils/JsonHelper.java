@@ -1,52 +1,176 @@
 package com.sangle.selenium.utils;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sangle.selenium.data.DataRow;
+import com.sangle.selenium.data.DataSnapshot;
+import com.sangle.selenium.data.RowQuery;
+import com.sangle.selenium.data.TestDataCache;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class JsonHelper {
 
     private static final ObjectMapper MAPPER = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private static final Set<Class<?>> VALUE_TYPES = Set.of(String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class,
+            BigDecimal.class, UUID.class);
+    private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectReader> LIST_READERS = new ConcurrentHashMap<>();
 
     private JsonHelper() {
         throw new IllegalStateException("Utility class");
     }
 
     public static <T> T readObjectFromFile(Path path, Class<T> clazz) {
-        try {
-            return MAPPER.readValue(Files.newBufferedReader(path), clazz);
+        try (InputStream stream = Files.newInputStream(path)) {
+            return readerFor(clazz).readValue(stream);
         } catch (IOException exception) {
             throw new IllegalStateException("Unable to read JSON file: " + path, exception);
         }
     }
 
+    /**
+     * Binds a JSON array file. The parsed list is cached; unless the element type is an immutable value type, each
+     * call gets its own copies of the elements, so a test can change them without affecting other threads.
+     */
     public static <T> List<T> readListFromFile(Path path, Class<T> clazz) {
+        return unshared(TestDataCache.file(path, "json:" + clazz.getName(), () -> {
+            try (InputStream stream = Files.newInputStream(path)) {
+                return listReaderFor(clazz).readValue(stream);
+            } catch (IOException exception) {
+                throw new IllegalStateException("Unable to read JSON file: " + path, exception);
+            }
+        }), clazz);
+    }
+
+    public static <T> T readObjectFromClasspath(String resourcePath, Class<T> clazz) {
+        try (InputStream stream = getResourceAsStream(resourcePath)) {
+            return readerFor(clazz).readValue(stream);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to read JSON resource: " + resourcePath, exception);
+        }
+    }
+
+    /**
+     * Binds a JSON array classpath resource, with the same caching and copying as {@link #readListFromFile}.
+     */
+    public static <T> List<T> readListFromClasspath(String resourcePath, Class<T> clazz) {
+        return unshared(TestDataCache.resource(resourcePath, "json:" + clazz.getName(), () -> {
+            try (InputStream stream = getResourceAsStream(resourcePath)) {
+                return listReaderFor(clazz).readValue(stream);
+            } catch (IOException exception) {
+                throw new IllegalStateException("Unable to read JSON resource: " + resourcePath, exception);
+            }
+        }), clazz);
+    }
+
+    /**
+     * Deep-copies cached elements through the mapper (a token buffer, not text), since beans and even records
+     * with collection components are mutable and the cached list is shared by every thread.
+     */
+    private static <T> List<T> unshared(List<T> cached, Class<T> clazz) {
+        if (!TestDataCache.isEnabled() || isValueType(clazz)) {
+            return cached;
+        }
+        List<T> copies = new ArrayList<>(cached.size());
+        for (T element : cached) {
+            copies.add(element == null ? null : MAPPER.convertValue(element, clazz));
+        }
+        return Collections.unmodifiableList(copies);
+    }
+
+    private static boolean isValueType(Class<?> clazz) {
+        return clazz.isEnum() || VALUE_TYPES.contains(clazz) || clazz.getPackageName().equals("java.time");
+    }
+
+    /**
+     * Binds the elements of a JSON array file, or the values of an NDJSON file, one per {@code next()}, so memory
+     * stays flat however large the file is.
+     */
+    public static <T> JsonValueIterator<T> iterateFromFile(Path path, Class<T> clazz) {
         try {
-            return MAPPER.readValue(Files.newBufferedReader(path), MAPPER.getTypeFactory().constructCollectionType(List.class, clazz));
+            return iterate(path.toString(), MAPPER.getFactory().createParser(Files.newInputStream(path)), clazz);
         } catch (IOException exception) {
             throw new IllegalStateException("Unable to read JSON file: " + path, exception);
         }
     }
 
-    public static <T> T readObjectFromClasspath(String resourcePath, Class<T> clazz) {
-        try (InputStream stream = getResourceAsStream(resourcePath)) {
-            return MAPPER.readValue(stream, clazz);
+    /**
+     * Binds the elements of a JSON array classpath resource, or the values of an NDJSON one, one per
+     * {@code next()}.
+     */
+    public static <T> JsonValueIterator<T> iterateFromClasspath(String resourcePath, Class<T> clazz) {
+        try {
+            return iterate(resourcePath, MAPPER.getFactory().createParser(getResourceAsStream(resourcePath)), clazz);
         } catch (IOException exception) {
             throw new IllegalStateException("Unable to read JSON resource: " + resourcePath, exception);
         }
     }
 
-    public static <T> List<T> readListFromClasspath(String resourcePath, Class<T> clazz) {
-        try (InputStream stream = getResourceAsStream(resourcePath)) {
-            return MAPPER.readValue(stream, MAPPER.getTypeFactory().constructCollectionType(List.class, clazz));
+    /**
+     * Streams the objects of a JSON array file, or of an NDJSON file, as rows of field name to text value, parsing one element per
+     * {@code next()}. Nested objects and arrays are kept as their JSON text.
+     */
+    public static RowIterator iterateMapsFromFile(Path path) {
+        return iterateMapsFromFile(path, RowQuery.all());
+    }
+
+    /**
+     * Streams the objects of a JSON array file that match the query, keeping only its fields. Values of other
+     * fields are skipped by the parser without being read as text.
+     */
+    public static RowIterator iterateMapsFromFile(Path path, RowQuery query) {
+        try {
+            return new JsonRowIterator(path.toString(), MAPPER.getFactory().createParser(Files.newInputStream(path)),
+                    query);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to read JSON file: " + path, exception);
+        }
+    }
+
+    /**
+     * Maps the binary snapshot of a JSON array file for random access without parsing, building it when the file
+     * is new or has changed.
+     */
+    public static DataSnapshot openSnapshot(Path path) {
+        return DataSnapshot.open(path, "json", () -> iterateMapsFromFile(path));
+    }
+
+    /**
+     * Streams the objects of a JSON array or NDJSON classpath resource as rows of field name to text value.
+     */
+    public static RowIterator iterateMapsFromClasspath(String resourcePath) {
+        return iterateMapsFromClasspath(resourcePath, RowQuery.all());
+    }
+
+    /**
+     * Streams the objects of a JSON array classpath resource that match the query, keeping only its fields.
+     */
+    public static RowIterator iterateMapsFromClasspath(String resourcePath, RowQuery query) {
+        try {
+            return new JsonRowIterator(resourcePath, MAPPER.getFactory().createParser(getResourceAsStream(resourcePath)),
+                    query);
         } catch (IOException exception) {
             throw new IllegalStateException("Unable to read JSON resource: " + resourcePath, exception);
         }
@@ -69,6 +193,93 @@ public final class JsonHelper {
         }
     }
 
+    /**
+     * Compact generator over the shared mapper's factory that writes nothing between root values, for callers
+     * writing one value per line.
+     */
+    static JsonGenerator newCompactGenerator(Writer writer) throws IOException {
+        return MAPPER.getFactory().createGenerator(writer).setRootValueSeparator(null);
+    }
+
+    private static <T> JsonValueIterator<T> iterate(String source, JsonParser parser, Class<T> clazz)
+            throws IOException {
+        try {
+            return new JsonValueIterator<>(source, parser, readerFor(clazz));
+        } catch (IOException exception) {
+            parser.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Reader bound to a type, created once per type: readers are immutable and thread-safe and keep the
+     * deserializers they resolve, which {@code MAPPER.readValue} looks up again on every call.
+     */
+    private static ObjectReader readerFor(Class<?> clazz) {
+        return READERS.computeIfAbsent(clazz, MAPPER::readerFor);
+    }
+
+    private static ObjectReader listReaderFor(Class<?> clazz) {
+        return LIST_READERS.computeIfAbsent(clazz,
+                type -> MAPPER.readerFor(MAPPER.getTypeFactory().constructCollectionType(List.class, type)));
+    }
+
+    private static final class JsonRowIterator extends RowIterator {
+
+        private final JsonParser parser;
+        private final RowQuery.Named query;
+        private boolean atObject;
+
+        JsonRowIterator(String source, JsonParser parser, RowQuery query) throws IOException {
+            super(source);
+            this.parser = parser;
+            this.query = query.named();
+            JsonToken first = parser.nextToken();
+            if (first != null && first != JsonToken.START_ARRAY && first != JsonToken.START_OBJECT) {
+                parser.close();
+                throw new IOException("Expected a JSON array of objects or NDJSON objects in " + source);
+            }
+            this.atObject = first == JsonToken.START_OBJECT;
+        }
+
+        @Override
+        protected Map<String, String> fetch() throws IOException {
+            DataRow row = null;
+            while (row == null) {
+                JsonToken token = atObject ? parser.currentToken() : parser.nextToken();
+                atObject = false;
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    return null;
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IOException("Expected a JSON object but found " + token);
+                }
+                row = readObject();
+            }
+            return row;
+        }
+
+        private DataRow readObject() throws IOException {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!query.needs(field)) {
+                    parser.skipChildren();
+                } else if (value.isStructStart()) {
+                    query.put(field, MAPPER.readTree(parser).toString());
+                } else {
+                    query.put(field, value == JsonToken.VALUE_NULL ? null : parser.getText());
+                }
+            }
+            return query.finish();
+        }
+
+        @Override
+        protected void release() throws IOException {
+            parser.close();
+        }
+    }
+
     private static InputStream getResourceAsStream(String resourcePath) throws IOException {
         InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resourcePath);
         if (stream == null) {
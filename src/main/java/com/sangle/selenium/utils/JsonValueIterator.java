@@ -0,0 +1,95 @@
+package com.sangle.selenium.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Binds the values of a JSON source one at a time: the elements of a top-level array, or the top-level values of
+ * a newline-delimited (NDJSON) file. Only the value being bound is held in memory, and {@code null} values are
+ * skipped. Like {@link RowIterator} the source is closed after the last value; callers that stop early should close
+ * it themselves.
+ */
+public final class JsonValueIterator<T> implements Iterator<T>, Closeable {
+
+    private final String source;
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private boolean atValue;
+    private T next;
+    private boolean closed;
+
+    JsonValueIterator(String source, JsonParser parser, ObjectReader reader) throws IOException {
+        this.source = source;
+        this.parser = parser;
+        this.reader = reader;
+        JsonToken first = parser.nextToken();
+        this.atValue = first != JsonToken.START_ARRAY;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !closed) {
+            try {
+                next = fetch();
+            } catch (IOException exception) {
+                close();
+                throw new IllegalStateException("Unable to read JSON values from " + source, exception);
+            }
+            if (next == null) {
+                close();
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more JSON values in " + source);
+        }
+        T value = next;
+        next = null;
+        return value;
+    }
+
+    /**
+     * Binds the remaining values into an unmodifiable list and closes the source.
+     */
+    public List<T> toList() {
+        List<T> values = new ArrayList<>();
+        forEachRemaining(values::add);
+        return List.copyOf(values);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            parser.close();
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to close " + source, exception);
+        }
+    }
+
+    private T fetch() throws IOException {
+        JsonToken token = atValue ? parser.currentToken() : parser.nextToken();
+        atValue = false;
+        while (token == JsonToken.VALUE_NULL) {
+            token = parser.nextToken();
+        }
+        if (token == null || token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        return reader.readValue(parser);
+    }
+}
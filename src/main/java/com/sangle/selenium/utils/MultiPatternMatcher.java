@@ -0,0 +1,204 @@
+package com.sangle.selenium.utils;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+
+/**
+ * Finds which of many literal patterns occur in a text in a single pass (Aho-Corasick automaton), instead of one
+ * {@code String.contains} scan per pattern. The scan stops as soon as every pattern has been seen.
+ * Instances are immutable and can be shared between threads.
+ */
+public final class MultiPatternMatcher {
+
+    private static final int ROOT = 0;
+    private static final int ASCII = 128;
+    private static final int[] NO_PATTERNS = new int[0];
+
+    private final List<String> patterns;
+    private final BitSet emptyPatterns = new BitSet();
+    private final int[] rootAscii = new int[ASCII];
+    private final char[][] labels;
+    private final int[][] children;
+    private final int[] childCounts;
+    private final int[] failure;
+    private final int[] dictionary;
+    private final int[][] outputs;
+    private int nodes;
+
+    private MultiPatternMatcher(List<String> patterns) {
+        this.patterns = patterns;
+        int capacity = 1;
+        for (String pattern : patterns) {
+            capacity += pattern.length();
+        }
+        labels = new char[capacity][];
+        children = new int[capacity][];
+        childCounts = new int[capacity];
+        failure = new int[capacity];
+        dictionary = new int[capacity];
+        outputs = new int[capacity][];
+        nodes = 1;
+        labels[ROOT] = new char[0];
+        children[ROOT] = new int[0];
+        outputs[ROOT] = NO_PATTERNS;
+        for (int index = 0; index < patterns.size(); index++) {
+            insert(index, patterns.get(index));
+        }
+        link();
+    }
+
+    public static MultiPatternMatcher of(Collection<String> patterns) {
+        for (String pattern : Objects.requireNonNull(patterns, "Patterns cannot be null")) {
+            Objects.requireNonNull(pattern, "Pattern cannot be null");
+        }
+        return new MultiPatternMatcher(List.copyOf(patterns));
+    }
+
+    public static MultiPatternMatcher of(String... patterns) {
+        return of(Arrays.asList(patterns));
+    }
+
+    public List<String> patterns() {
+        return patterns;
+    }
+
+    /**
+     * @return indexes, in {@link #patterns()}, of the patterns that occur in the text
+     */
+    public BitSet find(CharSequence text) {
+        BitSet found = (BitSet) emptyPatterns.clone();
+        int remaining = patterns.size() - found.cardinality();
+        int state = ROOT;
+        for (int position = 0, length = text.length(); position < length && remaining > 0; position++) {
+            char character = text.charAt(position);
+            if (state == ROOT) {
+                // Most of a page matches no pattern; skip ahead to the next character that can start one.
+                while (character < ASCII && rootAscii[character] == ROOT && ++position < length) {
+                    character = text.charAt(position);
+                }
+                if (position == length) {
+                    break;
+                }
+            }
+            int next = child(state, character);
+            while (next < 0 && state != ROOT) {
+                state = failure[state];
+                next = child(state, character);
+            }
+            state = next < 0 ? ROOT : next;
+            for (int match = outputs[state].length > 0 ? state : dictionary[state]; match > ROOT;
+                 match = dictionary[match]) {
+                for (int pattern : outputs[match]) {
+                    if (!found.get(pattern)) {
+                        found.set(pattern);
+                        remaining--;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return the patterns that occur in the text
+     */
+    public List<String> findPatterns(CharSequence text) {
+        return find(text).stream().mapToObj(patterns::get).toList();
+    }
+
+    public boolean containsAll(CharSequence text) {
+        return find(text).cardinality() == patterns.size();
+    }
+
+    public boolean containsAny(CharSequence text) {
+        return !find(text).isEmpty();
+    }
+
+    private void insert(int index, String pattern) {
+        if (pattern.isEmpty()) {
+            emptyPatterns.set(index);
+            return;
+        }
+        int state = ROOT;
+        for (int position = 0; position < pattern.length(); position++) {
+            char character = pattern.charAt(position);
+            int next = child(state, character);
+            if (next < 0) {
+                next = addChild(state, character);
+            }
+            state = next;
+        }
+        int[] current = outputs[state];
+        int[] extended = Arrays.copyOf(current, current.length + 1);
+        extended[current.length] = index;
+        outputs[state] = extended;
+    }
+
+    private int addChild(int state, char character) {
+        int node = nodes++;
+        labels[node] = new char[0];
+        children[node] = new int[0];
+        outputs[node] = NO_PATTERNS;
+        int count = childCounts[state];
+        if (count == labels[state].length) {
+            int grown = Math.max(2, count * 2);
+            labels[state] = Arrays.copyOf(labels[state], grown);
+            children[state] = Arrays.copyOf(children[state], grown);
+        }
+        labels[state][count] = character;
+        children[state][count] = node;
+        childCounts[state] = count + 1;
+        if (state == ROOT && character < ASCII) {
+            rootAscii[character] = node;
+        }
+        return node;
+    }
+
+    private int child(int state, char character) {
+        if (state == ROOT && character < ASCII) {
+            int node = rootAscii[character];
+            return node == ROOT ? -1 : node;
+        }
+        char[] stateLabels = labels[state];
+        for (int index = 0, count = childCounts[state]; index < count; index++) {
+            if (stateLabels[index] == character) {
+                return children[state][index];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Computes failure links breadth-first, and dictionary links to the nearest suffix state ending a pattern.
+     */
+    private void link() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int index = 0; index < childCounts[ROOT]; index++) {
+            int node = children[ROOT][index];
+            failure[node] = ROOT;
+            dictionary[node] = ROOT;
+            queue.add(node);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            for (int index = 0; index < childCounts[state]; index++) {
+                char character = labels[state][index];
+                int node = children[state][index];
+                int fallback = failure[state];
+                int next = child(fallback, character);
+                while (next < 0 && fallback != ROOT) {
+                    fallback = failure[fallback];
+                    next = child(fallback, character);
+                }
+                failure[node] = next < 0 ? ROOT : next;
+                dictionary[node] = outputs[failure[node]].length > 0 ? failure[node] : dictionary[failure[node]];
+                queue.add(node);
+            }
+        }
+    }
+}
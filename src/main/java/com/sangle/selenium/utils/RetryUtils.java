@@ -2,6 +2,8 @@ package com.sangle.selenium.utils;
 
 import com.sangle.selenium.config.ConfigManager;
 import com.sangle.selenium.config.FrameworkConfig;
+import com.sangle.selenium.tracing.TraceCategory;
+import com.sangle.selenium.tracing.TraceRecorder;
 import java.util.concurrent.Callable;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -22,14 +24,20 @@ public final class RetryUtils {
         int tryCount = 0;
         Throwable lastError = null;
         while (tryCount <= attempts) {
+            TraceRecorder.begin(TraceCategory.RETRY, "attempt", tryCount + 1);
             try {
                 return callable.call();
             } catch (Exception exception) {
                 lastError = exception;
                 LOG.warn("Retry attempt {} failed: {}", tryCount + 1, exception.getMessage());
-                sleep(delay);
-                tryCount++;
+                TraceRecorder.instant(TraceCategory.RETRY, "attempt failed", exception.getMessage());
+            } finally {
+                TraceRecorder.end(TraceCategory.RETRY, "attempt");
             }
+            TraceRecorder.begin(TraceCategory.RETRY, "backoff", delay);
+            sleep(delay);
+            TraceRecorder.end(TraceCategory.RETRY, "backoff");
+            tryCount++;
         }
         if (lastError instanceof RuntimeException runtimeException) {
             throw runtimeException;
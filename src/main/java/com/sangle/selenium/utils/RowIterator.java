@@ -0,0 +1,83 @@
+package com.sangle.selenium.utils;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads test-data rows one at a time from an open source. The source is closed as soon as the last row has been
+ * read, so iterators handed to a lazy TestNG {@code @DataProvider} release their file without an explicit
+ * {@link #close()}; callers that stop early should close it themselves.
+ */
+public abstract class RowIterator implements Iterator<Map<String, String>>, Closeable {
+
+    private final String source;
+    private Map<String, String> next;
+    private boolean closed;
+
+    protected RowIterator(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Reads the next row from the source.
+     * @return the row, or null when the source is exhausted
+     */
+    protected abstract Map<String, String> fetch() throws Exception;
+
+    /**
+     * Releases the underlying source.
+     */
+    protected abstract void release() throws Exception;
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !closed) {
+            try {
+                next = fetch();
+            } catch (Exception exception) {
+                close();
+                throw new IllegalStateException("Unable to read rows from " + source, exception);
+            }
+            if (next == null) {
+                close();
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Map<String, String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows in " + source);
+        }
+        Map<String, String> row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Reads the remaining rows into an unmodifiable list and closes the source.
+     */
+    public List<Map<String, String>> toList() {
+        List<Map<String, String>> rows = new ArrayList<>();
+        forEachRemaining(rows::add);
+        return List.copyOf(rows);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            release();
+        } catch (Exception exception) {
+            throw new IllegalStateException("Unable to close " + source, exception);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.sangle.selenium.utils;
+
+import com.sangle.selenium.constants.ScreenshotFormat;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Re-encodes the PNG returned by the driver into the configured output format, downscaling it first when it is
+ * wider than the configured maximum. PNG screenshots that need no downscaling are passed through untouched.
+ */
+final class ScreenshotEncoder {
+
+    private final ScreenshotFormat format;
+    private final float jpegQuality;
+    private final int maxWidth;
+
+    ScreenshotEncoder(ScreenshotFormat format, float jpegQuality, int maxWidth) {
+        this.format = format;
+        this.jpegQuality = Math.min(1f, Math.max(0.05f, jpegQuality));
+        this.maxWidth = maxWidth;
+    }
+
+    ScreenshotFormat format() {
+        return format;
+    }
+
+    byte[] encode(byte[] png) throws IOException {
+        if (format == ScreenshotFormat.PNG && maxWidth <= 0) {
+            return png;
+        }
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        if (source == null) {
+            throw new IOException("Screenshot is not a readable image");
+        }
+        if (format == ScreenshotFormat.PNG && source.getWidth() <= maxWidth) {
+            return png;
+        }
+        BufferedImage image = toRgb(source);
+        ByteArrayOutputStream output = new ByteArrayOutputStream(png.length / 2);
+        if (format == ScreenshotFormat.JPEG) {
+            writeJpeg(image, output);
+        } else {
+            ImageIO.write(image, "png", output);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Scaled-down (when needed) copy without alpha channel, which JPEG cannot store.
+     */
+    private BufferedImage toRgb(BufferedImage source) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        if (maxWidth > 0 && width > maxWidth) {
+            height = Math.max(1, Math.round(height * (maxWidth / (float) width)));
+            width = maxWidth;
+        }
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void writeJpeg(BufferedImage image, ByteArrayOutputStream output) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("No JPEG encoder available");
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam parameters = writer.getDefaultWriteParam();
+            parameters.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            parameters.setCompressionQuality(jpegQuality);
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), parameters);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.sangle.selenium.utils;
+
+import com.sangle.selenium.config.ConfigManager;
+import com.sangle.selenium.config.FrameworkConfig;
+import com.sangle.selenium.driver.DriverManager;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the last {@code screenshot.history.size} step screenshots of the test running on each thread in memory
+ * and writes them only when the test fails. Every test is bounded by {@code screenshot.history.test.max.mb} and
+ * all threads together by {@code screenshot.history.total.max.mb}; when the shared budget is exhausted a thread
+ * first gives up its own oldest screenshots and otherwise skips the capture.
+ */
+public final class ScreenshotHistory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScreenshotHistory.class);
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+    private static final FrameworkConfig CONFIG = ConfigManager.getConfig();
+    private static final int SIZE = CONFIG.screenshotHistorySize();
+    private static final long TEST_MAX_BYTES = CONFIG.screenshotHistoryTestMaxMb() * BYTES_PER_MB;
+    private static final long TOTAL_MAX_BYTES = CONFIG.screenshotHistoryTotalMaxMb() * BYTES_PER_MB;
+    private static final AtomicLong TOTAL_BYTES = new AtomicLong();
+    private static final LongAdder SKIPPED = new LongAdder();
+    private static final ThreadLocal<History> HISTORY = ThreadLocal.withInitial(History::new);
+
+    private ScreenshotHistory() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static boolean isEnabled() {
+        return SIZE > 0;
+    }
+
+    /**
+     * Captures a screenshot of the current driver into the history of the current thread.
+     * @param label step description used in the persisted screenshot name
+     */
+    public static void capture(String label) {
+        if (!isEnabled()) {
+            return;
+        }
+        WebDriver driver;
+        try {
+            driver = DriverManager.getDriver();
+        } catch (IllegalStateException exception) {
+            return;
+        }
+        if (!(driver instanceof TakesScreenshot screenshot)) {
+            return;
+        }
+        History history = HISTORY.get();
+        if (history.entries.isEmpty() && TOTAL_BYTES.get() >= TOTAL_MAX_BYTES) {
+            SKIPPED.increment();
+            return;
+        }
+        byte[] screenshotBytes = ScreenshotUtil.captureBytes(label, screenshot);
+        if (screenshotBytes != null) {
+            history.add(new Entry(label, screenshotBytes));
+        }
+    }
+
+    /**
+     * Clears the history of the current thread; called when a test starts, passes or is skipped.
+     */
+    public static void discard() {
+        if (isEnabled()) {
+            HISTORY.get().clear();
+        }
+    }
+
+    /**
+     * Writes the screenshots kept for the failed test of the current thread, oldest first, and clears them.
+     * @param testName prefix of the screenshot names
+     * @return paths of the written screenshots
+     */
+    public static List<Path> persist(String testName) {
+        if (!isEnabled()) {
+            return List.of();
+        }
+        History history = HISTORY.get();
+        List<Path> paths = new ArrayList<>(history.entries.size());
+        int index = 1;
+        for (Entry entry : history.entries) {
+            Path path = ScreenshotUtil.save(testName + "_step" + index++ + "_" + entry.label(), entry.bytes());
+            if (path != null) {
+                paths.add(path);
+            }
+        }
+        history.clear();
+        return paths;
+    }
+
+    /**
+     * Bytes currently held by all threads.
+     */
+    public static long heldBytes() {
+        return TOTAL_BYTES.get();
+    }
+
+    /**
+     * Captures skipped because the shared memory budget was exhausted.
+     */
+    public static long skippedCaptures() {
+        return SKIPPED.sum();
+    }
+
+    private record Entry(String label, byte[] bytes) {
+    }
+
+    private static final class History {
+
+        private final Deque<Entry> entries = new ArrayDeque<>();
+        private long bytes;
+
+        void add(Entry entry) {
+            long size = entry.bytes().length;
+            if (size > TEST_MAX_BYTES) {
+                SKIPPED.increment();
+                return;
+            }
+            while (!entries.isEmpty() && (entries.size() >= SIZE || bytes + size > TEST_MAX_BYTES)) {
+                evictOldest();
+            }
+            while (TOTAL_BYTES.addAndGet(size) > TOTAL_MAX_BYTES) {
+                TOTAL_BYTES.addAndGet(-size);
+                if (entries.isEmpty()) {
+                    SKIPPED.increment();
+                    LOG.debug("Screenshot history budget of {} bytes exhausted, skipping '{}'", TOTAL_MAX_BYTES,
+                            entry.label());
+                    return;
+                }
+                evictOldest();
+            }
+            entries.addLast(entry);
+            bytes += size;
+        }
+
+        void clear() {
+            TOTAL_BYTES.addAndGet(-bytes);
+            entries.clear();
+            bytes = 0;
+        }
+
+        private void evictOldest() {
+            Entry oldest = entries.removeFirst();
+            bytes -= oldest.bytes().length;
+            TOTAL_BYTES.addAndGet(-oldest.bytes().length);
+        }
+    }
+}
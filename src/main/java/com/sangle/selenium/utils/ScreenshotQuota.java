@@ -0,0 +1,58 @@
+package com.sangle.selenium.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caps the bytes of screenshots written during the current run, deleting the oldest screenshots of the run
+ * once the quota is exceeded. A quota of zero or less disables eviction.
+ */
+final class ScreenshotQuota {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScreenshotQuota.class);
+
+    private final long quotaBytes;
+    private final Deque<StoredScreenshot> stored = new ArrayDeque<>();
+    private long storedBytes;
+    private long evictedFiles;
+    private long evictedBytes;
+
+    ScreenshotQuota(long quotaBytes) {
+        this.quotaBytes = quotaBytes;
+    }
+
+    synchronized void record(Path path, long size) {
+        if (quotaBytes <= 0) {
+            return;
+        }
+        stored.addLast(new StoredScreenshot(path, size));
+        storedBytes += size;
+        while (storedBytes > quotaBytes && stored.size() > 1) {
+            StoredScreenshot oldest = stored.removeFirst();
+            storedBytes -= oldest.size();
+            try {
+                Files.deleteIfExists(oldest.path());
+                evictedFiles++;
+                evictedBytes += oldest.size();
+            } catch (IOException exception) {
+                LOG.warn("Unable to evict screenshot {}: {}", oldest.path(), exception.getMessage());
+            }
+        }
+    }
+
+    synchronized long evictedFiles() {
+        return evictedFiles;
+    }
+
+    synchronized long evictedBytes() {
+        return evictedBytes;
+    }
+
+    private record StoredScreenshot(Path path, long size) {
+    }
+}
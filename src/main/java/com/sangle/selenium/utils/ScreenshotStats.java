@@ -0,0 +1,36 @@
+package com.sangle.selenium.utils;
+
+/**
+ * Counters of the background screenshot pipeline since the start of the run.
+ */
+public record ScreenshotStats(
+        long submitted,
+        long written,
+        long dropped,
+        long failed,
+        int queueDepth,
+        int maxQueueDepth,
+        double averageWriteMillis,
+        double maxWriteMillis,
+        long capturedBytes,
+        long storedBytes,
+        long evictedFiles,
+        long evictedBytes
+) {
+
+    /**
+     * Bytes saved by re-encoding and downscaling, compared to storing the screenshots as captured.
+     */
+    public long savedBytes() {
+        return capturedBytes - storedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("submitted=%d, written=%d, dropped=%d, failed=%d, queueDepth=%d, maxQueueDepth=%d, "
+                        + "avgWrite=%.1fms, maxWrite=%.1fms, captured=%dKB, stored=%dKB, saved=%dKB, "
+                        + "evicted=%d files/%dKB", submitted, written, dropped, failed, queueDepth, maxQueueDepth,
+                averageWriteMillis, maxWriteMillis, capturedBytes / 1024, storedBytes / 1024, savedBytes() / 1024,
+                evictedFiles, evictedBytes / 1024);
+    }
+}
@@ -2,19 +2,19 @@ package com.sangle.selenium.utils;
 
 import com.sangle.selenium.constants.FrameworkConstants;
 import com.sangle.selenium.driver.DriverManager;
-import io.qameta.allure.Allure;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.nio.file.Files;
+import com.sangle.selenium.tracing.TraceCategory;
+import com.sangle.selenium.tracing.TraceRecorder;
+import com.sangle.selenium.config.ConfigManager;
+import com.sangle.selenium.config.FrameworkConfig;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,38 +22,90 @@ public final class ScreenshotUtil {
 
     private static final Logger LOG = LoggerFactory.getLogger(ScreenshotUtil.class);
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+    private static final long SHUTDOWN_FLUSH_MILLIS = 30_000;
+    private static final FrameworkConfig CONFIG = ConfigManager.getConfig();
+    private static final ScreenshotWriter WRITER = new ScreenshotWriter(
+            new ScreenshotEncoder(CONFIG.screenshotFormat(), CONFIG.screenshotJpegQuality(), CONFIG.screenshotMaxWidth()),
+            new ScreenshotQuota(CONFIG.screenshotQuotaMb() * 1024 * 1024),
+            CONFIG.screenshotAsync() ? CONFIG.screenshotWriterThreads() : 0,
+            CONFIG.screenshotQueueCapacity(), CONFIG.screenshotQueueTimeoutMillis());
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> WRITER.flush(SHUTDOWN_FLUSH_MILLIS),
+                "screenshot-writer-shutdown"));
+    }
 
     private ScreenshotUtil() {
         throw new IllegalStateException("Utility class");
     }
 
+    /**
+     * Captures a screenshot of the current driver. Only the capture happens on the calling thread; the file and
+     * the Allure attachment are written by the background screenshot writer.
+     * @param name screenshot and attachment name
+     * @return path the screenshot is written to, or null when it could not be captured or was dropped
+     */
     public static Path captureScreenshot(String name) {
         WebDriver driver = DriverManager.getDriver();
         if (!(driver instanceof TakesScreenshot screenshot)) {
             LOG.warn("Driver does not support screenshots");
             return null;
         }
-        byte[] screenshotBytes;
+        return capture(name, screenshot);
+    }
+
+    /**
+     * Captures only the area of the given element, using the driver's element screenshot.
+     * @param name screenshot and attachment name
+     * @param element element to capture
+     * @return path the screenshot is written to, or null when it could not be captured or was dropped
+     */
+    public static Path captureElementScreenshot(String name, WebElement element) {
+        return capture(name, element);
+    }
+
+    private static Path capture(String name, TakesScreenshot source) {
+        byte[] screenshotBytes = captureBytes(name, source);
+        return screenshotBytes == null ? null : save(name, screenshotBytes);
+    }
+
+    /**
+     * Hands already captured PNG bytes to the background writer.
+     */
+    static Path save(String name, byte[] screenshotBytes) {
+        Path screenshotPath = buildScreenshotPath(name);
+        return WRITER.submit(name, screenshotBytes, screenshotPath) ? screenshotPath : null;
+    }
+
+    static byte[] captureBytes(String name, TakesScreenshot source) {
+        TraceRecorder.begin(TraceCategory.SCREENSHOT, "captureScreenshot", name);
         try {
-            screenshotBytes = screenshot.getScreenshotAs(OutputType.BYTES);
+            return source.getScreenshotAs(OutputType.BYTES);
         } catch (WebDriverException exception) {
             LOG.error("Failed to capture screenshot", exception);
             return null;
+        } finally {
+            TraceRecorder.end(TraceCategory.SCREENSHOT, "captureScreenshot");
         }
-        Path screenshotPath = buildScreenshotPath(name);
-        try {
-            Files.createDirectories(screenshotPath.getParent());
-            FileUtils.writeByteArrayToFile(screenshotPath.toFile(), screenshotBytes);
-        } catch (IOException exception) {
-            LOG.error("Failed to persist screenshot", exception);
-        }
-        Allure.addAttachment(name, new ByteArrayInputStream(screenshotBytes));
-        return screenshotPath;
+    }
+
+    /**
+     * Waits until every captured screenshot has been written.
+     * @param timeoutMillis maximum time to wait
+     * @return whether all pending screenshots were written in time
+     */
+    public static boolean flush(long timeoutMillis) {
+        return WRITER.flush(timeoutMillis);
+    }
+
+    public static ScreenshotStats stats() {
+        return WRITER.stats();
     }
 
     private static Path buildScreenshotPath(String name) {
         String sanitizedName = name.replaceAll("[^a-zA-Z0-9_-]", "_");
-        String fileName = sanitizedName + "_" + FORMATTER.format(LocalDateTime.now()) + ".png";
+        String fileName = sanitizedName + "_" + FORMATTER.format(LocalDateTime.now()) + "."
+                + CONFIG.screenshotFormat().getExtension();
         return Paths.get("target", FrameworkConstants.SCREENSHOT_DIR, fileName);
     }
 }
@@ -0,0 +1,169 @@
+package com.sangle.selenium.utils;
+
+import io.qameta.allure.Allure;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Encodes captured screenshots and writes them to disk and to their Allure attachment on a small pool of daemon
+ * threads.
+ * At most {@code capacity} screenshots are pending at a time; callers wait up to the configured timeout for a
+ * free slot and the screenshot is dropped when none frees up. The Allure attachment is registered on the
+ * calling thread so that it lands in the right test, only its content is written in the background.
+ */
+final class ScreenshotWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScreenshotWriter.class);
+
+    private final ScreenshotEncoder encoder;
+    private final ScreenshotQuota quota;
+    private final ExecutorService executor;
+    private final Semaphore slots;
+    private final int capacity;
+    private final long offerTimeoutMillis;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicLong totalWriteNanos = new AtomicLong();
+    private final AtomicLong maxWriteNanos = new AtomicLong();
+    private final LongAdder capturedBytes = new LongAdder();
+    private final LongAdder storedBytes = new LongAdder();
+
+    ScreenshotWriter(ScreenshotEncoder encoder, ScreenshotQuota quota, int threads, int capacity,
+                     long offerTimeoutMillis) {
+        this.encoder = encoder;
+        this.quota = quota;
+        this.capacity = Math.max(1, capacity);
+        this.slots = new Semaphore(this.capacity);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.executor = threads <= 0 ? null : Executors.newFixedThreadPool(threads, daemonThreads());
+    }
+
+    /**
+     * Queues a screenshot for persistence, or writes it inline when the writer has no threads.
+     * @return whether the screenshot was accepted
+     */
+    boolean submit(String name, byte[] screenshotBytes, Path target) {
+        submitted.increment();
+        if (executor == null) {
+            write(screenshotBytes, target, prepareAttachment(name));
+            return true;
+        }
+        try {
+            if (!slots.tryAcquire(offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                dropped.increment();
+                LOG.warn("Screenshot queue full for {}ms, dropping screenshot '{}'", offerTimeoutMillis, name);
+                return false;
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+            return false;
+        }
+        // Only register the attachment once the screenshot is sure to be written, so a drop leaves none behind.
+        String attachmentSource = prepareAttachment(name);
+        maxQueueDepth.accumulateAndGet(queueDepth(), Math::max);
+        executor.execute(() -> {
+            try {
+                write(screenshotBytes, target, attachmentSource);
+            } finally {
+                slots.release();
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Waits until every screenshot accepted so far has been written, by taking back every slot. The slots are
+     * released straight away; a flush that times out takes none of them.
+     * @param timeoutMillis maximum time to wait
+     * @return whether the queue was drained in time
+     */
+    synchronized boolean flush(long timeoutMillis) {
+        if (executor == null) {
+            return true;
+        }
+        try {
+            if (!slots.tryAcquire(capacity, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        slots.release(capacity);
+        return true;
+    }
+
+    ScreenshotStats stats() {
+        long writes = written.sum() + failed.sum();
+        return new ScreenshotStats(submitted.sum(), written.sum(), dropped.sum(), failed.sum(), queueDepth(),
+                maxQueueDepth.get(),
+                writes == 0 ? 0 : totalWriteNanos.get() / (double) writes / 1_000_000,
+                maxWriteNanos.get() / 1_000_000d, capturedBytes.sum(), storedBytes.sum(), quota.evictedFiles(),
+                quota.evictedBytes());
+    }
+
+    private int queueDepth() {
+        return capacity - slots.availablePermits();
+    }
+
+    private void write(byte[] screenshotBytes, Path target, String attachmentSource) {
+        long start = System.nanoTime();
+        try {
+            byte[] encoded = encoder.encode(screenshotBytes);
+            Files.createDirectories(target.getParent());
+            Files.write(target, encoded);
+            if (attachmentSource != null) {
+                Allure.getLifecycle().writeAttachment(attachmentSource, new ByteArrayInputStream(encoded));
+            }
+            capturedBytes.add(screenshotBytes.length);
+            storedBytes.add(encoded.length);
+            quota.record(target, encoded.length);
+            written.increment();
+        } catch (IOException | RuntimeException exception) {
+            failed.increment();
+            LOG.error("Failed to persist screenshot {}", target, exception);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            totalWriteNanos.addAndGet(elapsed);
+            maxWriteNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    private String prepareAttachment(String name) {
+        try {
+            if (Allure.getLifecycle().getCurrentTestCaseOrStep().isEmpty()) {
+                return null;
+            }
+            return Allure.getLifecycle().prepareAttachment(name, encoder.format().getContentType(),
+                    encoder.format().getExtension());
+        } catch (IllegalStateException ignored) {
+            // No active Allure lifecycle; skip attaching the screenshot.
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "screenshot-writer-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
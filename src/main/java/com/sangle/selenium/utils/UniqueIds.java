@@ -0,0 +1,153 @@
+package com.sangle.selenium.utils;
+
+import com.sangle.selenium.config.ConfigManager;
+import com.sangle.selenium.config.FrameworkConfig;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Unique ids for test entities without central coordination. An id packs the milliseconds since 2024, the worker
+ * id and a per-millisecond sequence into a positive {@code long}, so ids from different workers never collide and
+ * ids from one worker only grow. Ids are taken with a single compare-and-set; when a worker takes more than 4096
+ * ids in a millisecond, or the clock steps back, its ids run ahead of the clock instead of waiting.
+ * <p>
+ * Each JVM needs its own worker id between 0 and 1023: set {@code unique.worker.id}, e.g. to
+ * {@code ${surefire.forkNumber}} or a CI node index. When it is not set the id is derived from the host name and
+ * process id, which makes a collision between two workers unlikely rather than impossible.
+ */
+public final class UniqueIds {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UniqueIds.class);
+    private static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int WORKER_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final int MAX_WORKER = (1 << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TOKEN_LENGTH = Long.toString(Long.MAX_VALUE, Character.MAX_RADIX).length();
+    private static final String TOKEN_PADDING = "0".repeat(TOKEN_LENGTH);
+    private static final Pattern NOT_NAME_SAFE = Pattern.compile("[^a-z0-9._-]");
+    private static final FrameworkConfig CONFIG = ConfigManager.getConfig();
+    private static final int WORKER_ID = workerId(CONFIG.uniqueWorkerId());
+    /**
+     * Milliseconds since the epoch shifted left by the sequence bits, plus the sequence of the last id.
+     */
+    private static final AtomicLong STATE = new AtomicLong();
+    private static final AtomicLong PHONE_SEQUENCE = new AtomicLong();
+    private static final int PHONE_NUMBERS_PER_WORKER = 900;
+    private static final int FIRST_PHONE_EXCHANGE = 312;
+
+    private UniqueIds() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static int workerId() {
+        return WORKER_ID;
+    }
+
+    public static long next() {
+        long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+        long state = STATE.accumulateAndGet(now, (previous, current) -> Math.max(previous + 1, current));
+        return (state >>> SEQUENCE_BITS) << (WORKER_BITS + SEQUENCE_BITS)
+                | (long) WORKER_ID << SEQUENCE_BITS
+                | (state & SEQUENCE_MASK);
+    }
+
+    /**
+     * The next id as 13 lower-case base-36 characters; tokens of one worker sort in the order they were taken.
+     */
+    public static String nextToken() {
+        return token(next());
+    }
+
+    public static String token(long id) {
+        String digits = Long.toString(id, Character.MAX_RADIX);
+        return TOKEN_PADDING.substring(digits.length()) + digits;
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli(EPOCH + (id >>> (WORKER_BITS + SEQUENCE_BITS)));
+    }
+
+    public static int workerOf(long id) {
+        return (int) (id >>> SEQUENCE_BITS) & MAX_WORKER;
+    }
+
+    /**
+     * A unique address at {@code unique.email.domain}, e.g. {@code user.0bk3x9p2m7q1a@example.test}.
+     */
+    public static String email(String localPrefix) {
+        return localPart(localPrefix) + "." + nextToken() + "@" + CONFIG.uniqueEmailDomain();
+    }
+
+    public static String email() {
+        return email("user");
+    }
+
+    /**
+     * A unique user name of the prefix followed by an underscore and a token.
+     */
+    public static String username(String prefix) {
+        return localPart(prefix) + "_" + nextToken();
+    }
+
+    public static String username() {
+        return username("user");
+    }
+
+    /**
+     * A phone number of the prefix followed by {@code digits} digits: the worker id as four digits, then a
+     * per-run counter. Numbers are unique within a run as long as a worker takes fewer than
+     * {@code 10^(digits - 4)} of them; they repeat across runs.
+     * @throws IllegalArgumentException when fewer than 7 or more than 15 digits are asked for
+     */
+    public static String phoneNumber(String prefix, int digits) {
+        if (digits < 7 || digits > 15) {
+            throw new IllegalArgumentException("Unique phone numbers need 7 to 15 digits, not " + digits);
+        }
+        long capacity = (long) Math.pow(10, digits - 4);
+        long sequence = PHONE_SEQUENCE.getAndIncrement() % capacity;
+        return prefix + String.format("%04d%0" + (digits - 4) + "d", WORKER_ID, sequence);
+    }
+
+    /**
+     * A North American number in E.164 form, {@code +1 555 NXX XXXX}, with a valid exchange code (312 to 404, so
+     * never an {@code N11} service code). The worker id and a per-run counter share the seven local digits, which
+     * leaves each worker {@value #PHONE_NUMBERS_PER_WORKER} numbers per run before they repeat.
+     */
+    public static String phoneNumber() {
+        long local = WORKER_ID * (long) PHONE_NUMBERS_PER_WORKER
+                + PHONE_SEQUENCE.getAndIncrement() % PHONE_NUMBERS_PER_WORKER;
+        return String.format("+1555%03d%04d", FIRST_PHONE_EXCHANGE + local / 10_000, local % 10_000);
+    }
+
+    private static String localPart(String prefix) {
+        String cleaned = NOT_NAME_SAFE.matcher(prefix.toLowerCase(Locale.ROOT)).replaceAll("");
+        return cleaned.isEmpty() ? "user" : cleaned;
+    }
+
+    private static int workerId(int configured) {
+        if (configured > MAX_WORKER) {
+            throw new IllegalStateException("unique.worker.id must be between 0 and " + MAX_WORKER + ": " + configured);
+        }
+        if (configured >= 0) {
+            return configured;
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException exception) {
+            host = "localhost";
+        }
+        long hash = (host.hashCode() * 31L + ProcessHandle.current().pid()) * 0x9e3779b97f4a7c15L;
+        int derived = (int) (hash >>> (Long.SIZE - WORKER_BITS));
+        LOG.info("Unique id worker {} derived from host {} and pid {}; set unique.worker.id to pin it", derived, host,
+                ProcessHandle.current().pid());
+        return derived;
+    }
+}
@@ -2,6 +2,8 @@ package com.sangle.selenium.utils;
 
 import com.sangle.selenium.config.ConfigManager;
 import com.sangle.selenium.config.FrameworkConfig;
+import com.sangle.selenium.tracing.TraceCategory;
+import com.sangle.selenium.tracing.TraceRecorder;
 import java.time.Duration;
 import java.util.function.Function;
 import org.openqa.selenium.By;
@@ -23,38 +25,38 @@ public final class WaitUtils {
     }
 
     public static WebElement waitForVisibility(WebDriver driver, WebElement element) {
-        return getWait(driver).until(ExpectedConditions.visibilityOf(element));
+        return until(driver, "waitForVisibility", element, ExpectedConditions.visibilityOf(element));
     }
 
     public static WebElement waitForVisibility(WebDriver driver, By locator) {
-        return getWait(driver).until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return until(driver, "waitForVisibility", locator, ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
     public static WebElement waitForVisibility(WebDriver driver, Function<WebDriver, WebElement> supplier) {
-        return getWait(driver).until(driverInstance -> {
+        return until(driver, "waitForVisibility", null, driverInstance -> {
             WebElement resolvedElement = supplier.apply(driverInstance);
             return ExpectedConditions.visibilityOf(resolvedElement).apply(driverInstance);
         });
     }
 
     public static WebElement waitForClickable(WebDriver driver, WebElement element) {
-        return getWait(driver).until(ExpectedConditions.elementToBeClickable(element));
+        return until(driver, "waitForClickable", element, ExpectedConditions.elementToBeClickable(element));
     }
 
     public static WebElement waitForClickable(WebDriver driver, By locator) {
-        return getWait(driver).until(ExpectedConditions.elementToBeClickable(locator));
+        return until(driver, "waitForClickable", locator, ExpectedConditions.elementToBeClickable(locator));
     }
 
     public static boolean waitForInvisibility(WebDriver driver, WebElement element) {
-        return getWait(driver).until(ExpectedConditions.invisibilityOf(element));
+        return until(driver, "waitForInvisibility", element, ExpectedConditions.invisibilityOf(element));
     }
 
     public static boolean waitForInvisibility(WebDriver driver, By locator) {
-        return getWait(driver).until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return until(driver, "waitForInvisibility", locator, ExpectedConditions.invisibilityOfElementLocated(locator));
     }
 
     public static WebElement waitForPresence(WebDriver driver, By locator) {
-        return getWait(driver).until(ExpectedConditions.presenceOfElementLocated(locator));
+        return until(driver, "waitForPresence", locator, ExpectedConditions.presenceOfElementLocated(locator));
     }
 
     public static void waitForPageToLoad(WebDriver driver) {
@@ -65,11 +67,23 @@ public final class WaitUtils {
             Object result = javascriptExecutor.executeScript("return document.readyState");
             return "complete".equals(result);
         };
-        getWait(driver).until(expectation);
+        until(driver, "waitForPageToLoad", null, expectation);
     }
 
     public static <T> T waitUntil(WebDriver driver, Function<WebDriver, T> condition) {
-        return getWait(driver).until(condition);
+        return until(driver, "waitUntil", null, condition);
+    }
+
+    private static <T> T until(WebDriver driver, String name, Object target, Function<WebDriver, T> condition) {
+        if (!TraceRecorder.isEnabled()) {
+            return getWait(driver).until(condition);
+        }
+        TraceRecorder.begin(TraceCategory.WAIT, name, target);
+        try {
+            return getWait(driver).until(condition);
+        } finally {
+            TraceRecorder.end(TraceCategory.WAIT, name);
+        }
     }
 
     private static FluentWait<WebDriver> getWait(WebDriver driver) {
@@ -0,0 +1,253 @@
+package com.sangle.selenium.utils;
+
+import com.sangle.selenium.data.DataRow;
+import com.sangle.selenium.data.RowQuery;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+/**
+ * Pulls rows straight from the sheet XML of an {@code .xlsx} package without building the workbook model, so
+ * memory depends on the shared-string table rather than on the number of rows. Cell values are converted the way
+ * {@link ExcelHelper} converts {@code Cell}s: shared and inline strings as-is, booleans as {@code true}/{@code false},
+ * date-formatted numbers as {@code LocalDateTime} text, other numbers through {@link Double#toString(double)}, formula
+ * cells as their formula and blank or error cells as an empty string. Cells that only reference a shared formula
+ * carry no formula text in the file and fall back to their cached value. Cells outside the columns of the
+ * {@link RowQuery} are skipped without being converted.
+ */
+final class XlsxRowIterator extends RowIterator {
+
+    private final OPCPackage pkg;
+    private final SharedStrings strings;
+    private final StylesTable styles;
+    private final InputStream sheetStream;
+    private final XMLStreamReader xml;
+    private final RowQuery.Positional query;
+    private final int headerCount;
+
+    private XlsxRowIterator(String source, OPCPackage pkg, String sheetName, RowQuery query) throws Exception {
+        super(source);
+        this.pkg = pkg;
+        XSSFReader reader = new XSSFReader(pkg);
+        reader.setUseReadOnlySharedStringsTable(true);
+        this.strings = reader.getSharedStringsTable();
+        this.styles = reader.getStylesTable();
+        this.sheetStream = openSheet(reader, sheetName);
+        this.xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetStream);
+        String[] headerRow = readRow(null);
+        List<String> headers = new ArrayList<>();
+        if (headerRow != null) {
+            for (String header : headerRow) {
+                if (header != null) {
+                    headers.add(header);
+                }
+            }
+        }
+        this.query = query.bind(headers);
+        this.headerCount = headers.size();
+    }
+
+    static XlsxRowIterator open(Path path, String sheetName, RowQuery query) {
+        OPCPackage pkg = null;
+        try {
+            pkg = OPCPackage.open(path.toFile(), PackageAccess.READ);
+            return new XlsxRowIterator(path.toString(), pkg, sheetName, query);
+        } catch (Exception exception) {
+            throw failure(pkg, "Unable to read Excel file: " + path, exception);
+        }
+    }
+
+    static XlsxRowIterator open(String resource, InputStream stream, String sheetName, RowQuery query) {
+        OPCPackage pkg = null;
+        try (stream) {
+            pkg = OPCPackage.open(stream);
+            return new XlsxRowIterator(resource, pkg, sheetName, query);
+        } catch (Exception exception) {
+            throw failure(pkg, "Unable to read Excel resource: " + resource, exception);
+        }
+    }
+
+    private static RuntimeException failure(OPCPackage pkg, String message, Exception exception) {
+        if (pkg != null) {
+            pkg.revert();
+        }
+        return exception instanceof IllegalArgumentException illegalArgument
+                ? illegalArgument
+                : new IllegalStateException(message, exception);
+    }
+
+    @Override
+    protected Map<String, String> fetch() throws XMLStreamException {
+        String[] cells;
+        while ((cells = readRow(query)) != null) {
+            String[] values = new String[headerCount];
+            for (int column = 0; column < headerCount; column++) {
+                String value = column < cells.length ? cells[column] : null;
+                values[column] = value == null ? "" : value;
+            }
+            DataRow row = query.apply(values);
+            if (row != null) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected void release() throws Exception {
+        try {
+            xml.close();
+            sheetStream.close();
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    private static InputStream openSheet(XSSFReader reader, String sheetName) throws Exception {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while (sheets.hasNext()) {
+            InputStream sheet = sheets.next();
+            if (sheetName.equals(sheets.getSheetName())) {
+                return sheet;
+            }
+            sheet.close();
+        }
+        throw new IllegalArgumentException("Sheet not found: " + sheetName);
+    }
+
+    /**
+     * Reads the next {@code <row>} element into an array indexed by column, converting only the cells the query
+     * needs, or every cell when it is null.
+     * @return the cell values, null entries for missing or skipped cells, or null after the last row
+     */
+    private String[] readRow(RowQuery.Positional needed) throws XMLStreamException {
+        while (xml.hasNext()) {
+            if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                return readCells(needed);
+            }
+        }
+        return null;
+    }
+
+    private String[] readCells(RowQuery.Positional needed) throws XMLStreamException {
+        String[] cells = new String[Math.max(8, headerCount)];
+        int nextColumn = 0;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+                int column = column(xml.getAttributeValue(null, "r"), nextColumn);
+                nextColumn = column + 1;
+                if (needed != null && !needed.needs(column)) {
+                    skipCell();
+                    continue;
+                }
+                if (column >= cells.length) {
+                    cells = Arrays.copyOf(cells, Math.max(column + 1, cells.length * 2));
+                }
+                cells[column] = readCell();
+            }
+        }
+        return cells;
+    }
+
+    private String readCell() throws XMLStreamException {
+        String type = xml.getAttributeValue(null, "t");
+        String style = xml.getAttributeValue(null, "s");
+        String value = null;
+        String formula = null;
+        StringBuilder inline = null;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            switch (xml.getLocalName()) {
+                case "v" -> value = xml.getElementText();
+                case "f" -> {
+                    String text = xml.getElementText();
+                    formula = text.isEmpty() ? null : text;
+                }
+                case "t" -> {
+                    inline = inline == null ? new StringBuilder() : inline;
+                    inline.append(xml.getElementText());
+                }
+                default -> {
+                    // Other children such as <is>, <r> or <extLst> only wrap the elements read above.
+                }
+            }
+        }
+        if (formula != null) {
+            return formula;
+        }
+        if ("inlineStr".equals(type)) {
+            return inline == null ? "" : inline.toString();
+        }
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        return switch (type == null ? "n" : type) {
+            case "s" -> strings.getItemAt(Integer.parseInt(value)).getString();
+            case "str" -> value;
+            case "b" -> Boolean.toString("1".equals(value));
+            case "e" -> "";
+            default -> numeric(Double.parseDouble(value), style);
+        };
+    }
+
+    private void skipCell() throws XMLStreamException {
+        while (xml.hasNext()) {
+            if (xml.next() == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                return;
+            }
+        }
+    }
+
+    private String numeric(double value, String style) {
+        if (style != null && styles != null) {
+            XSSFCellStyle cellStyle = styles.getStyleAt(Integer.parseInt(style));
+            if (cellStyle != null && DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString())
+                    && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value).toString();
+            }
+        }
+        return Double.toString(value);
+    }
+
+    /**
+     * Zero-based column of a cell reference such as {@code AB12}; cells without a reference follow the previous one.
+     */
+    private static int column(String reference, int fallback) {
+        if (reference == null) {
+            return fallback;
+        }
+        int column = 0;
+        for (int index = 0; index < reference.length(); index++) {
+            char character = reference.charAt(index);
+            if (character < 'A' || character > 'Z') {
+                break;
+            }
+            column = column * 26 + (character - 'A' + 1);
+        }
+        return column - 1;
+    }
+}
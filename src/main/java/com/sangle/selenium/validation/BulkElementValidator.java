@@ -0,0 +1,371 @@
+package com.sangle.selenium.validation;
+
+import com.sangle.selenium.config.ConfigManager;
+import com.sangle.selenium.config.FrameworkConfig;
+import com.sangle.selenium.elements.BaseElement;
+import com.sangle.selenium.exceptions.ValidationException;
+import com.sangle.selenium.logging.StepLogger;
+import com.sangle.selenium.tracing.TraceCategory;
+import com.sangle.selenium.tracing.TraceRecorder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Checks many expectations across elements in one asynchronous script execution instead of one or more driver
+ * round trips per check. The script re-evaluates every check each {@code validation.bulk.poll.millis} until all
+ * of them pass or {@code validation.bulk.timeout.millis} elapses, and all mismatches are reported together.
+ * <pre>
+ * new ElementValidator(driver).bulk()
+ *         .visible(firstNameInput)
+ *         .enabled(submitButton)
+ *         .hasAttribute(emailInput, "value", "jane@example.test")
+ *         .countEquals(hobbyCheckboxes, 3)
+ *         .verify("Practice form is filled in");
+ * </pre>
+ * Visibility and text are evaluated with DOM APIs ({@code checkVisibility}, {@code innerText}), which match
+ * {@code isDisplayed} and {@code getText} for ordinary elements. Element checks use the first match of the
+ * locator, like {@code findElement}. Locators the script cannot evaluate itself, such as relative locators, are
+ * resolved by the driver once before the script runs.
+ */
+public final class BulkElementValidator {
+
+    private static final FrameworkConfig CONFIG = ConfigManager.getConfig();
+    private static final long SCRIPT_TIMEOUT_MARGIN_MILLIS = 1000;
+
+    private static final String VALIDATION_SCRIPT = """
+            var targets = arguments[0], checks = arguments[1], timeout = arguments[2], poll = arguments[3];
+            var done = arguments[arguments.length - 1];
+            var started = Date.now(), attempts = 0;
+            function byCss(query) {
+                return Array.prototype.slice.call(document.querySelectorAll(query));
+            }
+            function byXpath(query) {
+                var snapshot = document.evaluate(query, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                var nodes = [];
+                for (var i = 0; i < snapshot.snapshotLength; i++) {
+                    nodes.push(snapshot.snapshotItem(i));
+                }
+                return nodes;
+            }
+            function byLinkText(query, partial) {
+                return Array.prototype.filter.call(document.querySelectorAll('a'), function (a) {
+                    var text = (a.innerText || '').trim();
+                    return partial ? text.indexOf(query) >= 0 : text === query;
+                });
+            }
+            function find(target) {
+                try {
+                    switch (target.type) {
+                        case 'css': return byCss(target.query);
+                        case 'id': return byCss('#' + CSS.escape(target.query));
+                        case 'name': return byCss('[name="' + CSS.escape(target.query) + '"]');
+                        case 'className': return byCss('.' + CSS.escape(target.query));
+                        case 'xpath': return byXpath(target.query);
+                        case 'link': return byLinkText(target.query, false);
+                        case 'partialLink': return byLinkText(target.query, true);
+                        default: return target.elements.filter(function (el) { return el.isConnected; });
+                    }
+                } catch (e) {
+                    return [];
+                }
+            }
+            function visible(el) {
+                if (el.checkVisibility) {
+                    if (!el.checkVisibility({opacityProperty: true, visibilityProperty: true})) {
+                        return false;
+                    }
+                } else {
+                    var style = window.getComputedStyle(el);
+                    if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') {
+                        return false;
+                    }
+                }
+                var rect = el.getBoundingClientRect();
+                return rect.width > 0 && rect.height > 0;
+            }
+            function attribute(el, name) {
+                var value = el[name];
+                if (typeof value === 'boolean') {
+                    return value ? 'true' : null;
+                }
+                if (value === undefined || value === null || typeof value === 'object' || typeof value === 'function') {
+                    value = el.getAttribute(name);
+                }
+                return value === null || value === undefined ? null : String(value);
+            }
+            function evaluate(check, found) {
+                if (check.type === 'count') {
+                    var count = String(found.length);
+                    return [count === check.expected, true, count];
+                }
+                if (check.type === 'notVisible') {
+                    var hidden = found.length === 0 || !visible(found[0]);
+                    return [hidden, true, hidden ? 'hidden' : 'visible'];
+                }
+                if (found.length === 0) {
+                    return [false, false, null];
+                }
+                var el = found[0];
+                switch (check.type) {
+                    case 'visible':
+                        var shown = visible(el);
+                        return [shown, true, shown ? 'visible' : 'hidden'];
+                    case 'enabled':
+                    case 'disabled':
+                        var state = el.matches(':disabled') ? 'disabled' : 'enabled';
+                        return [state === check.type, true, state];
+                    case 'text':
+                        var text = (el.innerText || '').trim();
+                        return [text === check.expected, true, text];
+                    case 'textContains':
+                        var content = (el.innerText || '').trim();
+                        return [content.indexOf(check.expected) >= 0, true, content];
+                    case 'attribute':
+                        var value = attribute(el, check.name);
+                        return [value === check.expected, true, value === null ? 'null' : value];
+                    default:
+                        return [false, true, 'unknown check ' + check.type];
+                }
+            }
+            function run() {
+                attempts++;
+                var found = {}, results = [], passed = true;
+                for (var i = 0; i < checks.length; i++) {
+                    var check = checks[i];
+                    if (!found.hasOwnProperty(check.target)) {
+                        found[check.target] = find(targets[check.target]);
+                    }
+                    var result = evaluate(check, found[check.target]);
+                    passed = passed && result[0];
+                    results.push(result);
+                }
+                if (passed || Date.now() - started + poll > timeout) {
+                    done([attempts, results]);
+                } else {
+                    setTimeout(run, poll);
+                }
+            }
+            run();
+            """;
+
+    private final WebDriver driver;
+    private final List<By> targets = new ArrayList<>();
+    private final Map<By, Integer> targetIndexes = new HashMap<>();
+    private final List<Expectation> expectations = new ArrayList<>();
+    private Duration timeout = Duration.ofMillis(CONFIG.validationBulkTimeoutMillis());
+
+    public BulkElementValidator(WebDriver driver) {
+        this.driver = Objects.requireNonNull(driver, "Driver cannot be null");
+    }
+
+    /**
+     * Overrides {@code validation.bulk.timeout.millis} for this validator; zero evaluates once without retrying
+     */
+    public BulkElementValidator withTimeout(Duration timeout) {
+        this.timeout = Objects.requireNonNull(timeout, "Timeout cannot be null");
+        return this;
+    }
+
+    public BulkElementValidator visible(BaseElement element) {
+        return expect(element, "visible", null, "visible", "should be visible");
+    }
+
+    public BulkElementValidator notVisible(BaseElement element) {
+        return expect(element, "notVisible", null, "hidden", "should not be visible");
+    }
+
+    public BulkElementValidator enabled(BaseElement element) {
+        return expect(element, "enabled", null, "enabled", "should be enabled");
+    }
+
+    public BulkElementValidator disabled(BaseElement element) {
+        return expect(element, "disabled", null, "disabled", "should be disabled");
+    }
+
+    public BulkElementValidator hasText(BaseElement element, String expectedText) {
+        return expect(element, "text", null, Objects.requireNonNull(expectedText, "Expected text cannot be null"),
+                "text mismatch");
+    }
+
+    public BulkElementValidator textContains(BaseElement element, String expectedSubstring) {
+        return expect(element, "textContains", null,
+                Objects.requireNonNull(expectedSubstring, "Expected substring cannot be null"),
+                "text does not contain the expected substring");
+    }
+
+    public BulkElementValidator hasAttribute(BaseElement element, String attributeName, String expectedValue) {
+        return expect(element, "attribute", Objects.requireNonNull(attributeName, "Attribute name cannot be null"),
+                Objects.requireNonNull(expectedValue, "Expected value cannot be null"),
+                "attribute [" + attributeName + "] mismatch");
+    }
+
+    public BulkElementValidator countEquals(BaseElement element, int expectedCount) {
+        if (expectedCount < 0) {
+            throw new IllegalArgumentException("Expected count cannot be negative: " + expectedCount);
+        }
+        return expect(element, "count", null, String.valueOf(expectedCount), "count mismatch");
+    }
+
+    public BulkElementValidator doesNotExist(BaseElement element) {
+        return countEquals(element, 0);
+    }
+
+    /**
+     * Runs all checks in one script execution, retrying in the browser until they pass or the timeout elapses.
+     * @return every check with the value seen on the last attempt
+     */
+    public BulkValidationResult evaluate() {
+        if (expectations.isEmpty()) {
+            return new BulkValidationResult(List.of(), 0, Duration.ZERO);
+        }
+        if (!(driver instanceof JavascriptExecutor javascriptExecutor)) {
+            throw new IllegalStateException("Bulk validation needs a driver that can execute JavaScript");
+        }
+        long started = System.nanoTime();
+        List<Map<String, Object>> checks = new ArrayList<>(expectations.size());
+        for (Expectation expectation : expectations) {
+            Map<String, Object> check = new HashMap<>();
+            check.put("target", String.valueOf(expectation.target()));
+            check.put("type", expectation.type());
+            check.put("name", expectation.attributeName());
+            check.put("expected", expectation.expected());
+            checks.add(check);
+        }
+        boolean traced = TraceRecorder.isEnabled();
+        if (traced) {
+            TraceRecorder.begin(TraceCategory.WAIT, "bulkValidation", expectations.size() + " checks");
+        }
+        try {
+            Object result = javascriptExecutor.executeAsyncScript(VALIDATION_SCRIPT, scriptTargets(), checks,
+                    scriptTimeoutMillis(), Math.max(1, CONFIG.validationBulkPollMillis()));
+            return toResult(result, Duration.ofNanos(System.nanoTime() - started));
+        } catch (ScriptTimeoutException e) {
+            throw new ValidationException("Bulk validation script did not finish within the script timeout", e);
+        } finally {
+            if (traced) {
+                TraceRecorder.end(TraceCategory.WAIT, "bulkValidation");
+            }
+        }
+    }
+
+    /**
+     * Runs all checks and throws one ValidationException listing every mismatch
+     */
+    public BulkValidationResult verify(String message) {
+        StepLogger.info("Validating " + expectations.size() + " element expectations: " + message);
+        BulkValidationResult result = evaluate();
+        List<BulkValidationResult.Check> mismatches = result.mismatches();
+        if (!mismatches.isEmpty()) {
+            StringBuilder report = new StringBuilder(String.format("%s - %d of %d element expectation(s) failed "
+                    + "after %d attempt(s):", message, mismatches.size(), result.checks().size(), result.attempts()));
+            for (int i = 0; i < mismatches.size(); i++) {
+                report.append(String.format("%n%d. %s", i + 1, mismatches.get(i)));
+            }
+            ValidationException exception = new ValidationException(report.toString());
+            StepLogger.error("Bulk element validation failed: " + report, exception);
+            throw exception;
+        }
+        StepLogger.info("Bulk element validation passed: " + message + " (" + result + ")");
+        return result;
+    }
+
+    /**
+     * Runs all checks and records each one in the given soft assertions instead of throwing
+     */
+    public BulkValidationResult verify(SoftAssertions softAssertions) {
+        BulkValidationResult result = evaluate();
+        for (BulkValidationResult.Check check : result.checks()) {
+            softAssertions.assertTrue(check.passed(), check::toString);
+        }
+        return result;
+    }
+
+    private BulkElementValidator expect(BaseElement element, String type, String attributeName, String expected,
+                                        String description) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        int target = targetIndexes.computeIfAbsent(element.getLocator(), locator -> {
+            targets.add(locator);
+            return targets.size() - 1;
+        });
+        expectations.add(new Expectation(target, element.getName(), type, attributeName, expected, description));
+        return this;
+    }
+
+    private List<Map<String, Object>> scriptTargets() {
+        List<Map<String, Object>> descriptors = new ArrayList<>(targets.size());
+        for (By locator : targets) {
+            Map<String, Object> descriptor = scriptDescriptor(locator);
+            if (descriptor == null) {
+                descriptor = new HashMap<>();
+                descriptor.put("type", "elements");
+                descriptor.put("elements", driver.findElements(locator));
+            }
+            descriptors.add(descriptor);
+        }
+        return descriptors;
+    }
+
+    /**
+     * The in-browser deadline stays below the driver's script timeout so the final attempt is still reported.
+     */
+    private long scriptTimeoutMillis() {
+        long scriptTimeout = CONFIG.explicitTimeoutSeconds() * 1000 - SCRIPT_TIMEOUT_MARGIN_MILLIS;
+        return Math.max(0, Math.min(timeout.toMillis(), scriptTimeout));
+    }
+
+    private BulkValidationResult toResult(Object result, Duration elapsed) {
+        if (!(result instanceof List<?> pair) || pair.size() != 2 || !(pair.get(1) instanceof List<?> outcomes)
+                || outcomes.size() != expectations.size()) {
+            throw new IllegalStateException("Unexpected bulk validation script result: " + result);
+        }
+        List<BulkValidationResult.Check> checks = new ArrayList<>(outcomes.size());
+        for (int i = 0; i < outcomes.size(); i++) {
+            List<?> outcome = (List<?>) outcomes.get(i);
+            Expectation expectation = expectations.get(i);
+            boolean found = Boolean.TRUE.equals(outcome.get(1));
+            checks.add(new BulkValidationResult.Check(expectation.elementName(), expectation.description(),
+                    expectation.expected(), found ? String.valueOf(outcome.get(2)) : null,
+                    Boolean.TRUE.equals(outcome.get(0))));
+        }
+        return new BulkValidationResult(List.copyOf(checks), ((Number) pair.get(0)).intValue(), elapsed);
+    }
+
+    /**
+     * Translates a Selenium locator into a script descriptor, or null when it can only be evaluated by the driver.
+     */
+    private static Map<String, Object> scriptDescriptor(By by) {
+        if (!(by instanceof By.Remotable remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        String value = String.valueOf(parameters.value());
+        Map<String, Object> descriptor = new LinkedHashMap<>();
+        switch (parameters.using()) {
+            case "css selector", "tag name" -> descriptor.put("type", "css");
+            case "id" -> descriptor.put("type", "id");
+            case "name" -> descriptor.put("type", "name");
+            case "class name" -> descriptor.put("type", "className");
+            case "xpath" -> descriptor.put("type", "xpath");
+            case "link text" -> descriptor.put("type", "link");
+            case "partial link text" -> descriptor.put("type", "partialLink");
+            default -> {
+                return null;
+            }
+        }
+        descriptor.put("query", value);
+        return descriptor;
+    }
+
+    private record Expectation(int target, String elementName, String type, String attributeName, String expected,
+                               String description) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.sangle.selenium.validation;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of one {@link BulkElementValidator} pass: every check with the value the browser saw on the last
+ * attempt, and how many in-browser attempts it took.
+ */
+public record BulkValidationResult(List<Check> checks, int attempts, Duration elapsed) {
+
+    /**
+     * One expectation on one element; {@code actual} is null when the element was not found.
+     */
+    public record Check(String elementName, String description, String expected, String actual, boolean passed) {
+
+        @Override
+        public String toString() {
+            return String.format("Element [%s] %s - Expected: [%s], Actual: [%s]", elementName, description, expected,
+                    actual == null ? "not found" : actual);
+        }
+    }
+
+    public boolean passed() {
+        return checks.stream().allMatch(Check::passed);
+    }
+
+    public List<Check> mismatches() {
+        return checks.stream().filter(check -> !check.passed()).toList();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("checks=%d, mismatches=%d, attempts=%d, elapsed=%dms", checks.size(),
+                mismatches().size(), attempts, elapsed.toMillis());
+    }
+}
@@ -25,6 +25,13 @@ public final class ElementValidator {
         this.driver = driver;
     }
     
+    /**
+     * Starts a bulk validation that checks many elements in one browser round trip
+     */
+    public BulkElementValidator bulk() {
+        return new BulkElementValidator(driver);
+    }
+    
     /**
      * Validates that element is visible on the page
      */
@@ -0,0 +1,147 @@
+package com.sangle.selenium.validation;
+
+import com.sangle.selenium.config.ConfigManager;
+import java.util.concurrent.atomic.LongAdder;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Keeps the last page source fetched on each thread and reuses it while the page has not changed. Whether it has
+ * changed is asked with a small script: a {@code MutationObserver} installed in the page counts DOM mutations,
+ * and a new document or navigation starts from a new random token, so the snapshot key is cheap to read while the
+ * source itself can be megabytes. Toggle with {@code page.source.cache.enabled}.
+ */
+public final class PageSourceCache {
+
+    private static final String GENERATION_SCRIPT = """
+            var state = window.__frameworkDomGeneration;
+            if (!state || state.document !== document) {
+                state = window.__frameworkDomGeneration = {
+                    document: document,
+                    token: Date.now().toString(36) + Math.random().toString(36).slice(2),
+                    generation: 0
+                };
+                state.observer = new MutationObserver(function () {
+                    state.generation++;
+                });
+                state.observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});
+            }
+            if (state.observer.takeRecords().length > 0) {
+                state.generation++;
+            }
+            return state.token + ':' + state.generation;
+            """;
+
+    private static final boolean ENABLED = ConfigManager.getConfig().pageSourceCacheEnabled();
+    private static final ThreadLocal<Snapshot> SNAPSHOT = new ThreadLocal<>();
+    private static final ThreadLocal<TestCounters> TEST_COUNTERS = ThreadLocal.withInitial(TestCounters::new);
+    private static final LongAdder FETCHES = new LongAdder();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder FETCHED_BYTES = new LongAdder();
+    private static final LongAdder SAVED_BYTES = new LongAdder();
+
+    private PageSourceCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @return the current page source, fetched from the browser only when the DOM changed since the last fetch
+     */
+    public static String getPageSource(WebDriver driver) {
+        String key = ENABLED ? generationKey(driver) : null;
+        Snapshot snapshot = SNAPSHOT.get();
+        if (key != null && snapshot != null && snapshot.driver() == driver && snapshot.key().equals(key)) {
+            TestCounters counters = TEST_COUNTERS.get();
+            counters.hits++;
+            counters.savedBytes += snapshot.bytes();
+            HITS.increment();
+            SAVED_BYTES.add(snapshot.bytes());
+            return snapshot.source();
+        }
+        String source = driver.getPageSource();
+        long bytes = utf8Length(source);
+        TestCounters counters = TEST_COUNTERS.get();
+        counters.fetches++;
+        counters.fetchedBytes += bytes;
+        FETCHES.increment();
+        FETCHED_BYTES.add(bytes);
+        if (key != null) {
+            SNAPSHOT.set(new Snapshot(driver, key, source, bytes));
+        } else {
+            SNAPSHOT.remove();
+        }
+        return source;
+    }
+
+    /**
+     * Drops the snapshot of the current thread.
+     */
+    public static void invalidate() {
+        SNAPSHOT.remove();
+    }
+
+    /**
+     * Resets the per-test counters of the current thread; called before every test.
+     */
+    public static void beginTest() {
+        SNAPSHOT.remove();
+        TEST_COUNTERS.remove();
+    }
+
+    /**
+     * Counters of the current thread since {@link #beginTest()}; the snapshot is released.
+     */
+    public static PageSourceStats endTest() {
+        SNAPSHOT.remove();
+        TestCounters counters = TEST_COUNTERS.get();
+        return new PageSourceStats(counters.fetches, counters.hits, counters.fetchedBytes, counters.savedBytes);
+    }
+
+    public static PageSourceStats stats() {
+        return new PageSourceStats(FETCHES.sum(), HITS.sum(), FETCHED_BYTES.sum(), SAVED_BYTES.sum());
+    }
+
+    /**
+     * @return the DOM generation key of the current document, or null when it cannot be read
+     */
+    private static String generationKey(WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor javascriptExecutor)) {
+            return null;
+        }
+        try {
+            Object key = javascriptExecutor.executeScript(GENERATION_SCRIPT);
+            return key instanceof String text ? text : null;
+        } catch (WebDriverException e) {
+            return null;
+        }
+    }
+
+    private static long utf8Length(String text) {
+        long bytes = 0;
+        for (int index = 0, length = text.length(); index < length; index++) {
+            char character = text.charAt(index);
+            if (character < 0x80) {
+                bytes++;
+            } else if (character < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(character)) {
+                bytes += 4;
+                index++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    private record Snapshot(WebDriver driver, String key, String source, long bytes) {
+    }
+
+    private static final class TestCounters {
+        private long fetches;
+        private long hits;
+        private long fetchedBytes;
+        private long savedBytes;
+    }
+}
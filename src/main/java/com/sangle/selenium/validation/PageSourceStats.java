@@ -0,0 +1,19 @@
+package com.sangle.selenium.validation;
+
+/**
+ * Page-source counters of one test or of the whole run. {@code savedBytes} is the size of the sources that
+ * page-source checks reused from the snapshot instead of transferring them from the browser again.
+ */
+public record PageSourceStats(
+        long fetches,
+        long hits,
+        long fetchedBytes,
+        long savedBytes
+) {
+
+    @Override
+    public String toString() {
+        return String.format("fetches=%d, hits=%d, fetched=%.1fKB, saved=%.1fKB", fetches, hits,
+                fetchedBytes / 1024.0, savedBytes / 1024.0);
+    }
+}
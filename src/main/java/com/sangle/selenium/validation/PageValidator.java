@@ -2,10 +2,15 @@ package com.sangle.selenium.validation;
 
 import com.sangle.selenium.exceptions.ValidationException;
 import com.sangle.selenium.logging.StepLogger;
+import com.sangle.selenium.utils.MultiPatternMatcher;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
 import java.util.regex.Pattern;
 
 /**
@@ -226,7 +231,7 @@ public final class PageValidator {
     public PageValidator sourceContains(String expectedText, String message) {
         StepLogger.info("Validating page source contains: " + expectedText);
         try {
-            String pageSource = driver.getPageSource();
+            String pageSource = PageSourceCache.getPageSource(driver);
             if (!pageSource.contains(expectedText)) {
                 String errorMsg = String.format("%s - Page source does not contain [%s]", 
                     message, expectedText);
@@ -250,7 +255,7 @@ public final class PageValidator {
     public PageValidator sourceDoesNotContain(String unexpectedText, String message) {
         StepLogger.info("Validating page source does not contain: " + unexpectedText);
         try {
-            String pageSource = driver.getPageSource();
+            String pageSource = PageSourceCache.getPageSource(driver);
             if (pageSource.contains(unexpectedText)) {
                 String errorMsg = String.format("%s - Page source should not contain [%s]", 
                     message, unexpectedText);
@@ -268,6 +273,59 @@ public final class PageValidator {
         }
     }
     
+    /**
+     * Validates that page source contains every expected text
+     */
+    public PageValidator sourceContainsAll(Collection<String> expectedTexts, String message) {
+        return sourceContains(expectedTexts, List.of(), message);
+    }
+    
+    /**
+     * Validates that page source contains none of the unexpected texts
+     */
+    public PageValidator sourceContainsNone(Collection<String> unexpectedTexts, String message) {
+        return sourceContains(List.of(), unexpectedTexts, message);
+    }
+    
+    /**
+     * Validates expected and unexpected texts in one pass over one page source, reporting every violation
+     */
+    public PageValidator sourceContains(Collection<String> expectedTexts, Collection<String> unexpectedTexts,
+                                        String message) {
+        StepLogger.info(String.format("Validating page source for %d expected and %d unexpected text(s)",
+            expectedTexts.size(), unexpectedTexts.size()));
+        List<String> missing = new ArrayList<>();
+        List<String> present = new ArrayList<>();
+        try {
+            List<String> patterns = new ArrayList<>(expectedTexts.size() + unexpectedTexts.size());
+            patterns.addAll(expectedTexts);
+            patterns.addAll(unexpectedTexts);
+            BitSet found = MultiPatternMatcher.of(patterns).find(PageSourceCache.getPageSource(driver));
+            for (int i = 0; i < patterns.size(); i++) {
+                boolean expected = i < expectedTexts.size();
+                if (expected && !found.get(i)) {
+                    missing.add(patterns.get(i));
+                } else if (!expected && found.get(i)) {
+                    present.add(patterns.get(i));
+                }
+            }
+        } catch (Exception e) {
+            String errorMsg = String.format("%s - Page source validation failed: %s", message, e.getMessage());
+            ValidationException exception = new ValidationException(errorMsg, e);
+            StepLogger.error("Page source validation failed: " + errorMsg, exception);
+            throw exception;
+        }
+        if (!missing.isEmpty() || !present.isEmpty()) {
+            String errorMsg = String.format("%s - Page source does not contain %s and should not contain %s", 
+                message, missing, present);
+            ValidationException exception = new ValidationException(errorMsg);
+            StepLogger.error("Page source validation failed: " + errorMsg, exception);
+            throw exception;
+        }
+        StepLogger.info("Page source validation passed: " + message);
+        return this;
+    }
+    
     /**
      * Validates that current URL has valid format
      */
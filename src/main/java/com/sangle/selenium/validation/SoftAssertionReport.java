@@ -0,0 +1,38 @@
+package com.sangle.selenium.validation;
+
+import java.util.List;
+
+/**
+ * Every outcome recorded by a {@link SoftAssertions} collector, in the order the assertions were made. Serialised
+ * to JSON and attached to Allure by {@link SoftAssertions#assertAll(String)}.
+ */
+public record SoftAssertionReport(
+        String name,
+        int total,
+        int passed,
+        int failed,
+        double elapsedMillis,
+        List<Outcome> outcomes
+) {
+
+    /**
+     * One assertion: when it started relative to the collector's creation, how long its check took and, for a
+     * failure, the message of the exception it captured.
+     */
+    public record Outcome(
+            long sequence,
+            String thread,
+            boolean passed,
+            String message,
+            double startMillis,
+            double durationMicros,
+            String cause
+    ) {
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: total=%d, passed=%d, failed=%d, elapsed=%.1fms", name, total, passed, failed,
+                elapsedMillis);
+    }
+}
@@ -2,14 +2,29 @@ package com.sangle.selenium.validation;
 
 import com.sangle.selenium.exceptions.ValidationException;
 import com.sangle.selenium.logging.StepLogger;
+import com.sangle.selenium.utils.JsonHelper;
+import io.qameta.allure.Allure;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 /**
  * Soft assertions collector that accumulates validation failures and reports them together.
  * Allows tests to continue executing even after assertion failures, collecting all issues
  * before throwing a consolidated exception.
+ * <p>
+ * One collector can be shared by several threads, e.g. actors or browser tabs checked in parallel: outcomes are
+ * appended to a lock-free queue and ordered by a sequence number. Passed assertions are only recorded, and their
+ * messages, which may be given as a {@link Supplier}, are formatted only when a report is built.
+ * {@link #assertAll(String)} attaches every outcome with its thread and timing to Allure as JSON.
  * 
  * @author Sangle
  * @version 1.0
@@ -18,9 +33,11 @@ import java.util.function.Supplier;
 public final class SoftAssertions {
     
     private static final String SOFT_ASSERTION_FAILED_PREFIX = "Soft assertion failed: ";
-    private static final String SOFT_ASSERTION_PASSED_PREFIX = "Soft assertion passed: ";
     
-    private final List<AssertionError> failures = new ArrayList<>();
+    private final Queue<Outcome> outcomes = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger failureCount = new AtomicInteger();
+    private final long createdNanos = System.nanoTime();
     private final boolean logFailuresImmediately;
     
     public SoftAssertions() {
@@ -35,13 +52,29 @@ public final class SoftAssertions {
      * Soft assertion that condition is true
      */
     public SoftAssertions assertTrue(boolean condition, String message) {
-        if (!condition) {
-            AssertionError error = new AssertionError(SOFT_ASSERTION_FAILED_PREFIX + message);
-            addFailure(error, message);
-        } else {
-            StepLogger.info(SOFT_ASSERTION_PASSED_PREFIX + message);
+        return check(System.nanoTime(), condition, message);
+    }
+    
+    /**
+     * Soft assertion that condition is true, formatting the message only when it is needed
+     */
+    public SoftAssertions assertTrue(boolean condition, Supplier<String> message) {
+        return check(System.nanoTime(), condition, message);
+    }
+    
+    /**
+     * Soft assertion that a condition evaluated now is true; the evaluation is timed and an exception fails it
+     */
+    public SoftAssertions assertTrue(BooleanSupplier condition, Supplier<String> message) {
+        long started = System.nanoTime();
+        boolean result;
+        try {
+            result = condition.getAsBoolean();
+        } catch (RuntimeException e) {
+            fail(started, String.format("%s - Unexpected error: %s", message.get(), e.getMessage()), e);
+            return this;
         }
-        return this;
+        return check(started, result, message);
     }
     
     /**
@@ -51,32 +84,30 @@ public final class SoftAssertions {
         return assertTrue(!condition, message);
     }
     
+    public SoftAssertions assertFalse(boolean condition, Supplier<String> message) {
+        return assertTrue(!condition, message);
+    }
+    
     /**
      * Soft assertion that two objects are equal
      */
     public SoftAssertions assertEquals(Object expected, Object actual, String message) {
-        if (!java.util.Objects.equals(expected, actual)) {
-            String errorMsg = String.format("%s - Expected: [%s], Actual: [%s]", 
-                message, expected, actual);
-            AssertionError error = new AssertionError(SOFT_ASSERTION_FAILED_PREFIX + errorMsg);
-            addFailure(error, errorMsg);
-        } else {
-            StepLogger.info(SOFT_ASSERTION_PASSED_PREFIX + message);
-        }
-        return this;
+        return checkEquals(expected, actual, message);
+    }
+    
+    public SoftAssertions assertEquals(Object expected, Object actual, Supplier<String> message) {
+        return checkEquals(expected, actual, message);
     }
     
     /**
      * Soft assertion that two objects are not equal
      */
     public SoftAssertions assertNotEquals(Object unexpected, Object actual, String message) {
-        if (java.util.Objects.equals(unexpected, actual)) {
-            String errorMsg = String.format("%s - Values should not be equal: [%s]", 
-                message, unexpected);
-            AssertionError error = new AssertionError(SOFT_ASSERTION_FAILED_PREFIX + errorMsg);
-            addFailure(error, errorMsg);
+        long started = System.nanoTime();
+        if (Objects.equals(unexpected, actual)) {
+            fail(started, String.format("%s - Values should not be equal: [%s]", message, unexpected), null);
         } else {
-            StepLogger.info(SOFT_ASSERTION_PASSED_PREFIX + message);
+            pass(started, message);
         }
         return this;
     }
@@ -85,12 +116,11 @@ public final class SoftAssertions {
      * Soft assertion that object is null
      */
     public SoftAssertions assertNull(Object object, String message) {
+        long started = System.nanoTime();
         if (object != null) {
-            String errorMsg = String.format("%s - Expected null but was: [%s]", message, object);
-            AssertionError error = new AssertionError(SOFT_ASSERTION_FAILED_PREFIX + errorMsg);
-            addFailure(error, errorMsg);
+            fail(started, String.format("%s - Expected null but was: [%s]", message, object), null);
         } else {
-            StepLogger.info(SOFT_ASSERTION_PASSED_PREFIX + message);
+            pass(started, message);
         }
         return this;
     }
@@ -99,27 +129,22 @@ public final class SoftAssertions {
      * Soft assertion that object is not null
      */
     public SoftAssertions assertNotNull(Object object, String message) {
-        if (object == null) {
-            String errorMsg = message + " - Expected non-null value";
-            AssertionError error = new AssertionError(SOFT_ASSERTION_FAILED_PREFIX + errorMsg);
-            addFailure(error, errorMsg);
-        } else {
-            StepLogger.info(SOFT_ASSERTION_PASSED_PREFIX + message);
-        }
-        return this;
+        return checkNotNull(object, message);
+    }
+    
+    public SoftAssertions assertNotNull(Object object, Supplier<String> message) {
+        return checkNotNull(object, message);
     }
     
     /**
      * Soft assertion that string contains expected substring
      */
     public SoftAssertions assertContains(String actual, String expected, String message) {
+        long started = System.nanoTime();
         if (actual == null || expected == null || !actual.contains(expected)) {
-            String errorMsg = String.format("%s - String [%s] does not contain [%s]", 
-                message, actual, expected);
-            AssertionError error = new AssertionError(SOFT_ASSERTION_FAILED_PREFIX + errorMsg);
-            addFailure(error, errorMsg);
+            fail(started, String.format("%s - String [%s] does not contain [%s]", message, actual, expected), null);
         } else {
-            StepLogger.info(SOFT_ASSERTION_PASSED_PREFIX + message);
+            pass(started, message);
         }
         return this;
     }
@@ -128,13 +153,12 @@ public final class SoftAssertions {
      * Executes a supplier and captures any exceptions as soft assertion failures
      */
     public SoftAssertions assertDoesNotThrow(Supplier<Void> executable, String message) {
+        long started = System.nanoTime();
         try {
             executable.get();
-            StepLogger.info(SOFT_ASSERTION_PASSED_PREFIX + message);
+            pass(started, message);
         } catch (Exception e) {
-            String errorMsg = String.format("%s - Unexpected exception: %s", message, e.getMessage());
-            AssertionError error = new AssertionError(SOFT_ASSERTION_FAILED_PREFIX + errorMsg, e);
-            addFailure(error, errorMsg);
+            fail(started, String.format("%s - Unexpected exception: %s", message, e.getMessage()), e);
         }
         return this;
     }
@@ -143,17 +167,14 @@ public final class SoftAssertions {
      * Executes a hard assertion and captures any ValidationException as soft failure
      */
     public SoftAssertions assertThat(Runnable hardAssertion, String context) {
+        long started = System.nanoTime();
         try {
             hardAssertion.run();
-            StepLogger.info(SOFT_ASSERTION_PASSED_PREFIX + context);
+            pass(started, context);
         } catch (ValidationException e) {
-            String errorMsg = String.format("%s - Validation failed: %s", context, e.getMessage());
-            AssertionError error = new AssertionError(SOFT_ASSERTION_FAILED_PREFIX + errorMsg, e);
-            addFailure(error, errorMsg);
+            fail(started, String.format("%s - Validation failed: %s", context, e.getMessage()), e);
         } catch (Exception e) {
-            String errorMsg = String.format("%s - Unexpected error: %s", context, e.getMessage());
-            AssertionError error = new AssertionError(SOFT_ASSERTION_FAILED_PREFIX + errorMsg, e);
-            addFailure(error, errorMsg);
+            fail(started, String.format("%s - Unexpected error: %s", context, e.getMessage()), e);
         }
         return this;
     }
@@ -162,8 +183,7 @@ public final class SoftAssertions {
      * Adds a custom failure with message
      */
     public SoftAssertions addFailure(String message) {
-        AssertionError error = new AssertionError(SOFT_ASSERTION_FAILED_PREFIX + message);
-        addFailure(error, message);
+        fail(System.nanoTime(), message, null);
         return this;
     }
     
@@ -171,16 +191,56 @@ public final class SoftAssertions {
      * Adds a custom failure with message and cause
      */
     public SoftAssertions addFailure(String message, Throwable cause) {
-        AssertionError error = new AssertionError(SOFT_ASSERTION_FAILED_PREFIX + message, cause);
-        addFailure(error, message);
+        fail(System.nanoTime(), message, cause);
+        return this;
+    }
+    
+    private SoftAssertions check(long started, boolean condition, Object message) {
+        if (!condition) {
+            fail(started, resolve(message), null);
+        } else {
+            pass(started, message);
+        }
+        return this;
+    }
+    
+    private SoftAssertions checkEquals(Object expected, Object actual, Object message) {
+        long started = System.nanoTime();
+        if (!Objects.equals(expected, actual)) {
+            fail(started, String.format("%s - Expected: [%s], Actual: [%s]", resolve(message), expected, actual),
+                    null);
+        } else {
+            pass(started, message);
+        }
+        return this;
+    }
+    
+    private SoftAssertions checkNotNull(Object object, Object message) {
+        long started = System.nanoTime();
+        if (object == null) {
+            fail(started, resolve(message) + " - Expected non-null value", null);
+        } else {
+            pass(started, message);
+        }
         return this;
     }
     
     /**
-     * Internal method to add failure to collection
+     * Records a passed assertion; the message, a String or a Supplier, is kept unformatted
+     */
+    private void pass(long started, Object message) {
+        outcomes.add(new Outcome(sequence.getAndIncrement(), Thread.currentThread().getName(), started,
+                System.nanoTime() - started, message, null));
+    }
+    
+    /**
+     * Records a failed assertion; the error is created here so its stack trace points at the assertion
      */
-    private void addFailure(AssertionError error, String message) {
-        failures.add(error);
+    private void fail(long started, String message, Throwable cause) {
+        AssertionError error = new AssertionError(SOFT_ASSERTION_FAILED_PREFIX + message, cause);
+        outcomes.add(new Outcome(sequence.getAndIncrement(), Thread.currentThread().getName(), started,
+                System.nanoTime() - started, message, error));
+        failureCount.incrementAndGet();
         if (logFailuresImmediately) {
             StepLogger.error("Soft assertion failure recorded: " + message, error);
         }
@@ -190,21 +250,28 @@ public final class SoftAssertions {
      * Checks if there are any assertion failures
      */
     public boolean hasFailures() {
-        return !failures.isEmpty();
+        return failureCount.get() > 0;
     }
     
     /**
      * Gets the number of assertion failures
      */
     public int getFailureCount() {
-        return failures.size();
+        return failureCount.get();
+    }
+    
+    /**
+     * Gets the number of assertions recorded, passed and failed
+     */
+    public int getAssertionCount() {
+        return outcomes.size();
     }
     
     /**
      * Gets all failure messages as a list
      */
     public List<String> getFailureMessages() {
-        return failures.stream()
+        return failures().stream()
             .map(Throwable::getMessage)
             .toList();
     }
@@ -213,6 +280,7 @@ public final class SoftAssertions {
      * Gets a consolidated failure report
      */
     public String getFailureReport() {
+        List<AssertionError> failures = failures();
         if (failures.isEmpty()) {
             return "No soft assertion failures recorded.";
         }
@@ -234,10 +302,42 @@ public final class SoftAssertions {
     }
     
     /**
-     * Clears all recorded failures
+     * Builds the structured result of every assertion recorded so far, formatting deferred messages
+     */
+    public SoftAssertionReport getReport(String name) {
+        List<Outcome> ordered = ordered();
+        List<SoftAssertionReport.Outcome> entries = new ArrayList<>(ordered.size());
+        int failed = 0;
+        for (Outcome outcome : ordered) {
+            if (outcome.error != null) {
+                failed++;
+            }
+            Throwable cause = outcome.error == null ? null : outcome.error.getCause();
+            entries.add(new SoftAssertionReport.Outcome(outcome.sequence, outcome.thread, outcome.error == null,
+                    resolve(outcome.message), (outcome.startedNanos - createdNanos) / 1_000_000.0,
+                    outcome.durationNanos / 1_000.0, cause == null ? null : String.valueOf(cause.getMessage())));
+        }
+        return new SoftAssertionReport(name, entries.size(), entries.size() - failed, failed,
+                (System.nanoTime() - createdNanos) / 1_000_000.0, entries);
+    }
+    
+    /**
+     * Gets the structured result of every assertion as JSON
+     */
+    public String toJson(String name) {
+        return JsonHelper.toJson(getReport(name));
+    }
+    
+    /**
+     * Clears all recorded failures; passed assertions are kept
      */
     public SoftAssertions clearFailures() {
-        failures.clear();
+        for (Iterator<Outcome> iterator = outcomes.iterator(); iterator.hasNext(); ) {
+            if (iterator.next().error != null) {
+                iterator.remove();
+                failureCount.decrementAndGet();
+            }
+        }
         StepLogger.info("Soft assertion failures cleared");
         return this;
     }
@@ -253,7 +353,9 @@ public final class SoftAssertions {
      * Asserts all collected soft assertions with custom message
      */
     public void assertAll(String message) {
-        if (hasFailures()) {
+        SoftAssertionReport report = getReport(message);
+        attach(report);
+        if (report.failed() > 0) {
             String fullReport = String.format("%s%n%n%s", message, getFailureReport());
             StepLogger.error("Soft assertions failed: " + message, new ValidationException(fullReport));
             
@@ -261,13 +363,13 @@ public final class SoftAssertions {
             ValidationException consolidatedException = new ValidationException(fullReport);
             
             // Add suppressed exceptions for each individual failure
-            for (AssertionError failure : failures) {
+            for (AssertionError failure : failures()) {
                 consolidatedException.addSuppressed(failure);
             }
             
             throw consolidatedException;
         } else {
-            StepLogger.info("All soft assertions passed: " + message);
+            StepLogger.info(String.format("All soft assertions passed: %s (%d assertions)", message, report.total()));
         }
     }
     
@@ -275,10 +377,11 @@ public final class SoftAssertions {
      * Returns summary statistics about the soft assertions
      */
     public String getSummary() {
-        if (failures.isEmpty()) {
-            return "Soft Assertions: All passed (0 failures)";
+        int failures = failureCount.get();
+        if (failures == 0) {
+            return String.format("Soft Assertions: All passed (0 failures, %d assertions)", outcomes.size());
         } else {
-            return String.format("Soft Assertions: %d failure(s) recorded", failures.size());
+            return String.format("Soft Assertions: %d failure(s) recorded", failures);
         }
     }
     
@@ -302,4 +405,45 @@ public final class SoftAssertions {
     public static SoftAssertions withDeferredLogging() {
         return new SoftAssertions(false);
     }
-}
\ No newline at end of file
+    
+    private List<AssertionError> failures() {
+        if (failureCount.get() == 0) {
+            return List.of();
+        }
+        return ordered().stream()
+            .filter(outcome -> outcome.error != null)
+            .map(outcome -> outcome.error)
+            .toList();
+    }
+    
+    /**
+     * Outcomes by sequence; threads may append slightly out of order
+     */
+    private List<Outcome> ordered() {
+        List<Outcome> ordered = new ArrayList<>(outcomes);
+        ordered.sort(Comparator.comparingLong(outcome -> outcome.sequence));
+        return ordered;
+    }
+    
+    private static void attach(SoftAssertionReport report) {
+        if (Allure.getLifecycle().getCurrentTestCaseOrStep().isEmpty()) {
+            return;
+        }
+        Allure.addAttachment(report.name() + " (soft assertions)", "application/json", JsonHelper.toJson(report),
+                "json");
+    }
+    
+    private static String resolve(Object message) {
+        if (message instanceof Supplier<?> supplier) {
+            return String.valueOf(supplier.get());
+        }
+        return String.valueOf(message);
+    }
+    
+    /**
+     * One recorded assertion. Failures carry their error; the message of a pass may still be a Supplier.
+     */
+    private record Outcome(long sequence, String thread, long startedNanos, long durationNanos, Object message,
+                           AssertionError error) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.sangle.selenium.visual;
+
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Rectangle, in screenshot pixels, excluded from visual comparison (clocks, ads, animated content).
+ */
+public record IgnoreRegion(int x, int y, int width, int height) {
+
+    public IgnoreRegion {
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException("Ignore region size cannot be negative");
+        }
+    }
+
+    public static IgnoreRegion of(int x, int y, int width, int height) {
+        return new IgnoreRegion(x, y, width, height);
+    }
+
+    /**
+     * Region covered by an element in page coordinates, for full-page comparisons at a device pixel ratio of 1.
+     */
+    public static IgnoreRegion of(WebElement element) {
+        Rectangle rect = element.getRect();
+        return new IgnoreRegion(rect.getX(), rect.getY(), rect.getWidth(), rect.getHeight());
+    }
+}
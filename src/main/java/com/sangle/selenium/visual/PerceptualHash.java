@@ -0,0 +1,87 @@
+package com.sangle.selenium.visual;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.util.List;
+
+/**
+ * 64-bit difference hash: the image is reduced to a 9x8 grid of mean luminance and every bit records whether a
+ * cell is brighter than its right neighbour. Robust to re-encoding and small rendering noise, so the Hamming
+ * distance of two hashes is a cheap measure of how different two screenshots look.
+ */
+final class PerceptualHash {
+
+    private static final int COLUMNS = 9;
+    private static final int ROWS = 8;
+    private static final int CELL = 8;
+
+    private PerceptualHash() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static long of(BufferedImage image) {
+        return of(image, List.of());
+    }
+
+    /**
+     * Hash of the image with the ignored regions blanked out, so changes inside them do not move the hash.
+     */
+    static long of(BufferedImage image, List<IgnoreRegion> ignored) {
+        BufferedImage gray = new BufferedImage(COLUMNS * CELL, ROWS * CELL, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = gray.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, gray.getWidth(), gray.getHeight(), null);
+            if (ignored != null && !ignored.isEmpty()) {
+                blank(graphics, ignored, gray.getWidth() / (double) image.getWidth(),
+                        gray.getHeight() / (double) image.getHeight());
+            }
+        } finally {
+            graphics.dispose();
+        }
+        Raster raster = gray.getRaster();
+        int[] cells = new int[COLUMNS * ROWS];
+        int[] samples = new int[CELL * CELL];
+        for (int row = 0; row < ROWS; row++) {
+            for (int column = 0; column < COLUMNS; column++) {
+                raster.getSamples(column * CELL, row * CELL, CELL, CELL, 0, samples);
+                int sum = 0;
+                for (int sample : samples) {
+                    sum += sample;
+                }
+                cells[row * COLUMNS + column] = sum;
+            }
+        }
+        long hash = 0;
+        for (int row = 0; row < ROWS; row++) {
+            for (int column = 0; column < COLUMNS - 1; column++) {
+                hash <<= 1;
+                if (cells[row * COLUMNS + column] > cells[row * COLUMNS + column + 1]) {
+                    hash |= 1;
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Fills every scaled pixel an ignored region touches, rounding outwards.
+     */
+    private static void blank(Graphics2D graphics, List<IgnoreRegion> ignored, double scaleX, double scaleY) {
+        graphics.setColor(Color.BLACK);
+        for (IgnoreRegion region : ignored) {
+            int left = (int) Math.floor(region.x() * scaleX);
+            int top = (int) Math.floor(region.y() * scaleY);
+            int right = (int) Math.ceil((region.x() + region.width()) * scaleX);
+            int bottom = (int) Math.ceil((region.y() + region.height()) * scaleY);
+            graphics.fillRect(left, top, right - left, bottom - top);
+        }
+    }
+
+    static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+}
@@ -0,0 +1,241 @@
+package com.sangle.selenium.visual;
+
+import com.sangle.selenium.config.ConfigManager;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.imageio.ImageIO;
+
+/**
+ * Compares a screenshot with its baseline in up to three steps, each one cheaper than the next:
+ * byte-identical PNGs match without decoding, images whose perceptual hashes outside the ignored regions are at
+ * most {@code maxHashDistance} apart match without counting pixels when that coarse check is enabled, and
+ * everything else goes through a pixel diff
+ * split into horizontal bands that run in parallel on a shared pool. Only the pixel diff, which applies the ignored
+ * regions and tolerances, can fail a comparison. The counting pass stops as soon as the allowed number of differing
+ * pixels is exceeded; the diff image is only rendered for mismatches.
+ */
+public final class VisualComparator {
+
+    private static final int BAND_HEIGHT = 64;
+    private static final int DIFF_COLOR = 0xFF0000;
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(poolSize(), runnable -> {
+        Thread thread = new Thread(runnable, "visual-diff-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final VisualOptions options;
+
+    public VisualComparator(VisualOptions options) {
+        this.options = options;
+    }
+
+    public VisualResult compare(byte[] baselinePng, byte[] actualPng, List<IgnoreRegion> ignored) {
+        if (Arrays.equals(baselinePng, actualPng)) {
+            return new VisualResult(VisualResult.Verdict.IDENTICAL, 0, 0, 0, null);
+        }
+        return compare(decode(baselinePng), decode(actualPng), ignored);
+    }
+
+    public VisualResult compare(BufferedImage baseline, BufferedImage actual, List<IgnoreRegion> ignored) {
+        int width = baseline.getWidth();
+        int height = baseline.getHeight();
+        if (width != actual.getWidth() || height != actual.getHeight()) {
+            return new VisualResult(VisualResult.Verdict.SIZE_MISMATCH, 64, 0, (long) width * height, null);
+        }
+        // The hashes cost two full-image passes, so they are only computed when the fast path is enabled.
+        int hashDistance = options.maxHashDistance() < 0 ? -1
+                : PerceptualHash.distance(PerceptualHash.of(baseline, ignored), PerceptualHash.of(actual, ignored));
+        boolean[] mask = ignoreMask(width, height, ignored);
+        long compared = comparedPixels(width, height, mask);
+        if (hashDistance >= 0 && hashDistance <= options.maxHashDistance()) {
+            // Perceptually equal outside the ignored regions; the hash only ever passes images, never fails them.
+            return new VisualResult(VisualResult.Verdict.MATCH, hashDistance, 0, compared, null);
+        }
+        long allowed = (long) Math.floor(compared * options.maxDiffRatio());
+        long different = diffPass(baseline, actual, mask, null, allowed);
+        if (different <= allowed) {
+            return new VisualResult(VisualResult.Verdict.MATCH, hashDistance, different, compared, null);
+        }
+        BufferedImage diff = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        different = diffPass(baseline, actual, mask, diff, Long.MAX_VALUE);
+        return new VisualResult(VisualResult.Verdict.PIXEL_MISMATCH, hashDistance, different, compared, diff);
+    }
+
+    /**
+     * Counts differing pixels band by band in parallel, optionally rendering the diff image.
+     * @param limit count after which the bands stop early; ignored when a diff image is rendered
+     */
+    private long diffPass(BufferedImage baseline, BufferedImage actual, boolean[] mask, BufferedImage diff,
+                          long limit) {
+        int height = baseline.getHeight();
+        AtomicLong different = new AtomicLong();
+        List<Callable<Void>> bands = new ArrayList<>((height + BAND_HEIGHT - 1) / BAND_HEIGHT);
+        for (int top = 0; top < height; top += BAND_HEIGHT) {
+            int bandTop = top;
+            int rows = Math.min(BAND_HEIGHT, height - top);
+            bands.add(() -> {
+                diffBand(baseline, actual, mask, diff, bandTop, rows, different, limit);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> band : POOL.invokeAll(bands)) {
+                band.get();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Visual comparison interrupted", exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Visual comparison failed", exception.getCause());
+        }
+        return different.get();
+    }
+
+    private void diffBand(BufferedImage baseline, BufferedImage actual, boolean[] mask, BufferedImage diff,
+                          int top, int rows, AtomicLong different, long limit) {
+        int width = baseline.getWidth();
+        int[] expectedPixels = readBand(baseline, top, rows);
+        int[] actualPixels = readBand(actual, top, rows);
+        int[] diffPixels = diff == null ? null : new int[expectedPixels.length];
+        int tolerance = options.pixelTolerance();
+        for (int row = 0; row < rows; row++) {
+            if (diff == null && different.get() > limit) {
+                return;
+            }
+            long rowDifferences = 0;
+            int offset = row * width;
+            int maskOffset = (top + row) * width;
+            for (int column = 0; column < width; column++) {
+                int index = offset + column;
+                int expected = expectedPixels[index];
+                boolean ignoredPixel = mask != null && mask[maskOffset + column];
+                int actualPixel = actualPixels[index];
+                boolean differs = !ignoredPixel && ((expected ^ actualPixel) & 0xFFFFFF) != 0
+                        && exceedsTolerance(expected, actualPixel, tolerance);
+                if (differs) {
+                    rowDifferences++;
+                }
+                if (diffPixels != null) {
+                    diffPixels[index] = differs ? DIFF_COLOR : faded(expected, ignoredPixel);
+                }
+            }
+            if (rowDifferences > 0) {
+                different.addAndGet(rowDifferences);
+            }
+        }
+        if (diff != null) {
+            diff.setRGB(0, top, width, rows, diffPixels, 0, width);
+        }
+    }
+
+    /**
+     * Reads a band of rows as packed RGB. Decoded PNGs are usually byte-interleaved, which is unpacked directly
+     * from the raster instead of going through the much slower colour-model conversion of {@code getRGB}.
+     */
+    private static int[] readBand(BufferedImage image, int top, int rows) {
+        int width = image.getWidth();
+        int[] pixels = new int[width * rows];
+        int type = image.getType();
+        WritableRaster raster = image.getRaster();
+        boolean plainRaster = raster.getParent() == null && raster.getSampleModelTranslateX() == 0
+                && raster.getSampleModelTranslateY() == 0;
+        if (plainRaster && (type == BufferedImage.TYPE_3BYTE_BGR || type == BufferedImage.TYPE_4BYTE_ABGR)) {
+            byte[] data = ((DataBufferByte) raster.getDataBuffer()).getData();
+            int stride = type == BufferedImage.TYPE_3BYTE_BGR ? 3 : 4;
+            int alpha = stride - 3;
+            int position = top * width * stride;
+            for (int index = 0; index < pixels.length; index++, position += stride) {
+                pixels[index] = (data[position + alpha + 2] & 0xFF) << 16
+                        | (data[position + alpha + 1] & 0xFF) << 8
+                        | (data[position + alpha] & 0xFF);
+            }
+            return pixels;
+        }
+        if (plainRaster && (type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_INT_ARGB)) {
+            int[] data = ((DataBufferInt) raster.getDataBuffer()).getData();
+            System.arraycopy(data, top * width, pixels, 0, pixels.length);
+            return pixels;
+        }
+        return image.getRGB(0, top, width, rows, pixels, 0, width);
+    }
+
+    private static boolean exceedsTolerance(int expected, int actual, int tolerance) {
+        return Math.abs(((expected >> 16) & 0xFF) - ((actual >> 16) & 0xFF)) > tolerance
+                || Math.abs(((expected >> 8) & 0xFF) - ((actual >> 8) & 0xFF)) > tolerance
+                || Math.abs((expected & 0xFF) - (actual & 0xFF)) > tolerance;
+    }
+
+    /**
+     * Light grey version of the baseline pixel used as context around the highlighted differences; ignored
+     * pixels are tinted blue.
+     */
+    private static int faded(int rgb, boolean ignoredPixel) {
+        int luminance = (((rgb >> 16) & 0xFF) * 77 + ((rgb >> 8) & 0xFF) * 150 + (rgb & 0xFF) * 29) >> 8;
+        int gray = 170 + luminance / 3;
+        return ignoredPixel ? (gray / 2) << 16 | (gray / 2) << 8 | gray : gray << 16 | gray << 8 | gray;
+    }
+
+    private static boolean[] ignoreMask(int width, int height, List<IgnoreRegion> ignored) {
+        if (ignored == null || ignored.isEmpty()) {
+            return null;
+        }
+        boolean[] mask = new boolean[width * height];
+        for (IgnoreRegion region : ignored) {
+            int left = Math.max(0, region.x());
+            int right = Math.min(width, region.x() + region.width());
+            int bottom = Math.min(height, region.y() + region.height());
+            for (int y = Math.max(0, region.y()); y < bottom; y++) {
+                if (left < right) {
+                    Arrays.fill(mask, y * width + left, y * width + right, true);
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static long comparedPixels(int width, int height, boolean[] mask) {
+        if (mask == null) {
+            return (long) width * height;
+        }
+        long compared = 0;
+        for (boolean ignoredPixel : mask) {
+            if (!ignoredPixel) {
+                compared++;
+            }
+        }
+        return compared;
+    }
+
+    private static BufferedImage decode(byte[] png) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                throw new IllegalStateException("Screenshot is not a readable image");
+            }
+            return image;
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to decode screenshot", exception);
+        }
+    }
+
+    private static int poolSize() {
+        int configured = ConfigManager.getConfig().visualDiffThreads();
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,21 @@
+package com.sangle.selenium.visual;
+
+import com.sangle.selenium.config.ConfigManager;
+import com.sangle.selenium.config.FrameworkConfig;
+
+/**
+ * Comparison thresholds.
+ * @param pixelTolerance largest per-channel difference (0-255) for two pixels to still count as equal
+ * @param maxDiffRatio largest share of differing pixels for the images to still match
+ * @param maxHashDistance perceptual hash distance (0-64) at or below which images match without a counting
+ *                        pass; -1, the default, always counts pixels. A 64-bit hash cannot see small changes such
+ *                        as a single label, so only enable this where a coarse check is enough
+ */
+public record VisualOptions(int pixelTolerance, double maxDiffRatio, int maxHashDistance) {
+
+    public static VisualOptions fromConfig() {
+        FrameworkConfig config = ConfigManager.getConfig();
+        return new VisualOptions(config.visualPixelTolerance(), config.visualMaxDiffRatio(),
+                config.visualHashMaxDistance());
+    }
+}
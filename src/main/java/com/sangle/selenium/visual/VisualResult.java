@@ -0,0 +1,26 @@
+package com.sangle.selenium.visual;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Outcome of a visual comparison. The diff image is only rendered for mismatches of equally sized images. The
+ * hash distance is -1 when the perceptual hash fast path is disabled and no hashes were computed.
+ */
+public record VisualResult(Verdict verdict, int hashDistance, long differentPixels, long comparedPixels,
+                           BufferedImage diffImage) {
+
+    public enum Verdict {
+        IDENTICAL,
+        MATCH,
+        SIZE_MISMATCH,
+        PIXEL_MISMATCH
+    }
+
+    public boolean matched() {
+        return verdict == Verdict.IDENTICAL || verdict == Verdict.MATCH;
+    }
+
+    public double diffRatio() {
+        return comparedPixels == 0 ? 0 : differentPixels / (double) comparedPixels;
+    }
+}
@@ -0,0 +1,104 @@
+package com.sangle.selenium.visual;
+
+import com.sangle.selenium.config.ConfigManager;
+import com.sangle.selenium.config.FrameworkConfig;
+import com.sangle.selenium.constants.FrameworkConstants;
+import com.sangle.selenium.exceptions.ValidationException;
+import com.sangle.selenium.logging.StepLogger;
+import io.qameta.allure.Allure;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Visual assertions against baseline screenshots stored under {@code visual.baseline.dir}. A missing baseline
+ * is created from the current screenshot (as is every baseline when {@code visual.update.baselines=true});
+ * on mismatch the actual screenshot and a diff image are written to {@code target/visual-diffs} and attached
+ * to the report.
+ */
+public final class VisualValidator {
+
+    private final WebDriver driver;
+    private final VisualComparator comparator;
+
+    public VisualValidator(WebDriver driver) {
+        this(driver, VisualOptions.fromConfig());
+    }
+
+    public VisualValidator(WebDriver driver, VisualOptions options) {
+        this.driver = driver;
+        this.comparator = new VisualComparator(options);
+    }
+
+    /**
+     * Validates that a screenshot of the viewport matches its baseline
+     */
+    public VisualValidator pageMatchesBaseline(String baselineName, String message, IgnoreRegion... ignored) {
+        if (!(driver instanceof TakesScreenshot screenshot)) {
+            throw new ValidationException(message + " - driver does not support screenshots");
+        }
+        return matchesBaseline(baselineName, screenshot.getScreenshotAs(OutputType.BYTES), message, ignored);
+    }
+
+    /**
+     * Validates that the given PNG screenshot matches its baseline
+     */
+    public VisualValidator matchesBaseline(String baselineName, byte[] actualPng, String message,
+                                           IgnoreRegion... ignored) {
+        StepLogger.info("Validating visual baseline: " + baselineName);
+        FrameworkConfig config = ConfigManager.getConfig();
+        String fileName = baselineName.replaceAll("[^a-zA-Z0-9_-]", "_");
+        Path baselinePath = Paths.get(config.visualBaselineDir(), fileName + ".png");
+        try {
+            if (config.visualUpdateBaselines() || !Files.isRegularFile(baselinePath)) {
+                Files.createDirectories(baselinePath.toAbsolutePath().getParent());
+                Files.write(baselinePath, actualPng);
+                StepLogger.warn("Visual baseline written: " + baselinePath.toAbsolutePath());
+                return this;
+            }
+            VisualResult result = comparator.compare(Files.readAllBytes(baselinePath), actualPng, List.of(ignored));
+            if (result.matched()) {
+                StepLogger.info(String.format("Visual validation passed: %s (%s, %.4f%% different)", message,
+                        result.verdict(), result.diffRatio() * 100));
+                return this;
+            }
+            String errorMsg = String.format("%s - Screenshot differs from baseline [%s]: %s, %d of %d pixels "
+                            + "(%.4f%%) differ", message, baselinePath,
+                    result.verdict(), result.differentPixels(), result.comparedPixels(), result.diffRatio() * 100);
+            if (result.hashDistance() >= 0) {
+                errorMsg += ", perceptual hash distance " + result.hashDistance();
+            }
+            writeMismatch(fileName, actualPng, result);
+            ValidationException exception = new ValidationException(errorMsg);
+            StepLogger.error("Visual validation failed: " + errorMsg, exception);
+            throw exception;
+        } catch (IOException e) {
+            String errorMsg = String.format("%s - Visual validation failed: %s", message, e.getMessage());
+            ValidationException exception = new ValidationException(errorMsg, e);
+            StepLogger.error("Visual validation failed: " + errorMsg, exception);
+            throw exception;
+        }
+    }
+
+    private static void writeMismatch(String fileName, byte[] actualPng, VisualResult result) throws IOException {
+        Path directory = Paths.get("target", FrameworkConstants.VISUAL_DIFF_DIR);
+        Files.createDirectories(directory);
+        Files.write(directory.resolve(fileName + "-actual.png"), actualPng);
+        Allure.addAttachment(fileName + " (actual)", "image/png", new ByteArrayInputStream(actualPng), "png");
+        if (result.diffImage() != null) {
+            ByteArrayOutputStream diffPng = new ByteArrayOutputStream();
+            ImageIO.write(result.diffImage(), "png", diffPng);
+            Files.write(directory.resolve(fileName + "-diff.png"), diffPng.toByteArray());
+            Allure.addAttachment(fileName + " (diff)", "image/png", new ByteArrayInputStream(diffPng.toByteArray()),
+                    "png");
+        }
+    }
+}
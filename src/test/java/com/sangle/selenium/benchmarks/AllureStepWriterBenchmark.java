@@ -0,0 +1,122 @@
+package com.sangle.selenium.benchmarks;
+
+import com.sangle.selenium.constants.FrameworkConstants;
+import com.sangle.selenium.logging.StepLogger;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+/**
+ * Time to run and write the Allure results of a suite of {@value #TESTS} tests, each logging
+ * {@value #ACTIONS_PER_TEST} element actions with a repeated informational message inside every action.
+ * {@code flat} attaches one top-level step per event, {@code nested} groups events under their action and
+ * {@code collapsed} additionally merges the repeated messages. The size of the results directory is printed
+ * after every iteration.
+ * Run with {@code mvn -P benchmark test -Dbenchmark=AllureStepWriterBenchmark}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class AllureStepWriterBenchmark {
+
+    private static final int TESTS = 300;
+    private static final int ACTIONS_PER_TEST = 25;
+    private static final int MESSAGES_PER_ACTION = 4;
+    private static final By LOCATOR = By.id("userName");
+
+    @Param({"flat", "nested", "collapsed"})
+    public String mode;
+
+    private Path resultsDirectory;
+    private AllureLifecycle lifecycle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        resultsDirectory = Paths.get("target", "benchmark-allure-results", mode).toAbsolutePath();
+        System.setProperty("allure.results.directory", resultsDirectory.toString());
+        System.setProperty(FrameworkConstants.ENV_STEP_LOGGER_ALLURE_NESTED, String.valueOf(!"flat".equals(mode)));
+        System.setProperty(FrameworkConstants.ENV_STEP_LOGGER_ALLURE_COLLAPSE, String.valueOf("collapsed".equals(mode)));
+        lifecycle = Allure.getLifecycle();
+    }
+
+    @Setup(Level.Iteration)
+    public void cleanResults() {
+        deleteRecursively(resultsDirectory);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportResultsSize() {
+        try (Stream<Path> files = Files.walk(resultsDirectory)) {
+            long bytes = files.filter(Files::isRegularFile).mapToLong(AllureStepWriterBenchmark::size).sum();
+            System.out.printf("%n[%s] allure-results: %d KB for %d tests%n", mode, bytes / 1024, TESTS);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Benchmark
+    public void suite() {
+        for (int test = 0; test < TESTS; test++) {
+            String uuid = UUID.randomUUID().toString();
+            lifecycle.scheduleTestCase(new TestResult().setUuid(uuid).setName("test" + test));
+            lifecycle.startTestCase(uuid);
+            for (int action = 0; action < ACTIONS_PER_TEST; action++) {
+                StepLogger.actionStart("Username Field", "type text", LOCATOR);
+                for (int message = 0; message < MESSAGES_PER_ACTION; message++) {
+                    StepLogger.info("Loaded users.csv from cache");
+                }
+                StepLogger.actionSuccess("Username Field", "type text", LOCATOR, "user" + action);
+            }
+            StepLogger.flush();
+            lifecycle.updateTestCase(uuid, result -> result.setStatus(Status.PASSED));
+            lifecycle.stopTestCase(uuid);
+            lifecycle.writeTestCase(uuid);
+        }
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.sangle.selenium.benchmarks;
+
+import com.sangle.selenium.utils.DataGenerator;
+import com.sangle.selenium.utils.FakeUser;
+import com.sangle.selenium.utils.FakerUtil;
+import com.sangle.selenium.utils.JsonHelper;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time and peak heap to write {@code records} users to a file: {@code objectGraph} generates them one at a time
+ * with {@link FakerUtil#user()} into a list written by {@link JsonHelper#writeObjectToFile}, which pretty-prints
+ * the whole graph, {@code csv} and {@code ndjson} stream them through {@link DataGenerator#users()}. Records per
+ * second and the peak heap of every iteration are printed after it.
+ * Run with {@code mvn -P benchmark test -Dbenchmark=DataGenerationBenchmark}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Dlogback.configurationFile=logback-benchmark.xml", "-Xmx3g", "-Dfaker.seed=42"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class DataGenerationBenchmark {
+
+    @Param({"500000"})
+    public long records;
+
+    private final Path directory = Paths.get("target", "benchmark-data");
+    private long started;
+
+    @Setup(Level.Iteration)
+    public void resetPeakHeap() {
+        PeakHeap.reset();
+        started = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        System.out.printf("%n%.0f records/s, peak heap: %d MB%n", records / seconds, PeakHeap.megabytes());
+    }
+
+    @Benchmark
+    public void objectGraph() {
+        List<FakeUser> users = new ArrayList<>();
+        for (long record = 0; record < records; record++) {
+            users.add(FakerUtil.user());
+        }
+        JsonHelper.writeObjectToFile(directory.resolve("generated-graph.json"), users);
+    }
+
+    @Benchmark
+    public void csv() {
+        DataGenerator.users().writeCsv(directory.resolve("generated.csv"), records, 42L);
+    }
+
+    @Benchmark
+    public void ndjson() {
+        DataGenerator.users().writeNdjson(directory.resolve("generated.ndjson"), records, 42L);
+    }
+}
@@ -0,0 +1,116 @@
+package com.sangle.selenium.benchmarks;
+
+import com.sangle.selenium.data.DataProviderUtils;
+import com.sangle.selenium.utils.CsvHelper;
+import com.sangle.selenium.utils.JsonHelper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Time and peak heap to run a data provider over a generated file of {@code rows} users: {@code eager} reads
+ * every row into a list and wraps it into an {@code Object[][]}, {@code lazy} streams the rows through
+ * {@link DataProviderUtils#lazyKeyValue}. Each consumed row is handed to a blackhole, as a test would receive
+ * it. The peak heap of every iteration is printed after it.
+ * Run with {@code mvn -P benchmark test -Dbenchmark=DataLoadBenchmark}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Dlogback.configurationFile=logback-benchmark.xml", "-Xmx3g", "-Ddata.cache.enabled=false"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class DataLoadBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"csv", "json"})
+    public String format;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void writeFile() throws IOException {
+        file = Paths.get("target", "benchmark-data", "users-" + rows + "." + format);
+        if (Files.exists(file)) {
+            return;
+        }
+        Files.createDirectories(file.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            if ("csv".equals(format)) {
+                writer.write("id,firstName,lastName,email,phone,city\n");
+            } else {
+                writer.write("[\n");
+            }
+            for (int row = 0; row < rows; row++) {
+                if ("csv".equals(format)) {
+                    writer.write(row + ",First" + row + ",Last" + row + ",user" + row + "@example.com,+1555"
+                            + row + ",City" + row % 500 + "\n");
+                } else {
+                    writer.write((row == 0 ? "" : ",\n") + "{\"id\":" + row + ",\"firstName\":\"First" + row
+                            + "\",\"lastName\":\"Last" + row + "\",\"email\":\"user" + row
+                            + "@example.com\",\"phone\":\"+1555" + row + "\",\"city\":\"City" + row % 500 + "\"}");
+                }
+            }
+            if (!"csv".equals(format)) {
+                writer.write("\n]\n");
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeakHeap() {
+        PeakHeap.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportPeakHeap() {
+        System.out.printf("%n[%s] peak heap: %d MB%n", format, PeakHeap.megabytes());
+    }
+
+    @Benchmark
+    public void eager(Blackhole blackhole) {
+        List<Map<String, String>> data = "csv".equals(format)
+                ? CsvHelper.readAsMaps(file)
+                : JsonHelper.readListFromFile(file, Map.class).stream().map(DataLoadBenchmark::asStrings).toList();
+        for (Object[] parameters : DataProviderUtils.wrapKeyValue(data)) {
+            blackhole.consume(parameters);
+        }
+    }
+
+    @Benchmark
+    public void lazy(Blackhole blackhole) {
+        Iterator<Object[]> parameters = DataProviderUtils.lazyKeyValue("csv".equals(format)
+                ? CsvHelper.iterateAsMaps(file)
+                : JsonHelper.iterateMapsFromFile(file));
+        while (parameters.hasNext()) {
+            blackhole.consume(parameters.next());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> asStrings(Map<?, ?> row) {
+        return (Map<String, String>) row;
+    }
+}
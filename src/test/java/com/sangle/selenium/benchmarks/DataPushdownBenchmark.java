@@ -0,0 +1,123 @@
+package com.sangle.selenium.benchmarks;
+
+import com.sangle.selenium.constants.EnvironmentType;
+import com.sangle.selenium.data.RowQuery;
+import com.sangle.selenium.utils.CsvHelper;
+import com.sangle.selenium.utils.JsonHelper;
+import com.sangle.selenium.utils.RowIterator;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time and peak heap to collect the QA rows of a generated file of {@code rows} rows with 30 columns, of which the
+ * tests use three: {@code filterAfterRead} reads every row and column and filters the list afterwards as a data
+ * provider would, {@code pushdown} hands a {@link RowQuery} to the reader. A fifth of the rows are QA rows.
+ * Run with {@code mvn -P benchmark test -Dbenchmark=DataPushdownBenchmark}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Dlogback.configurationFile=logback-benchmark.xml", "-Xmx3g", "-Ddata.cache.enabled=false"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class DataPushdownBenchmark {
+
+    private static final int COLUMNS = 30;
+    private static final String[] ENVIRONMENTS = {"DEV", "QA", "UAT", "STAGING", "PROD"};
+    private static final RowQuery QUERY = RowQuery.all()
+            .select("username", "password", "role")
+            .forEnvironment(EnvironmentType.QA);
+
+    @Param({"200000"})
+    public int rows;
+
+    @Param({"csv", "json"})
+    public String format;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void writeFile() throws IOException {
+        file = Paths.get("target", "benchmark-data", "wide-" + rows + "." + format);
+        if (Files.exists(file)) {
+            return;
+        }
+        Files.createDirectories(file.getParent());
+        List<String> header = new ArrayList<>(List.of("username", "password", "role", "environment"));
+        for (int column = header.size(); column < COLUMNS; column++) {
+            header.add("attribute" + column);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("csv".equals(format) ? String.join(",", header) + "\n" : "[\n");
+            for (int row = 0; row < rows; row++) {
+                List<String> values = new ArrayList<>(List.of("user" + row, "secret" + row, row % 3 == 0 ? "admin" : "member",
+                        ENVIRONMENTS[row % ENVIRONMENTS.length]));
+                for (int column = values.size(); column < COLUMNS; column++) {
+                    values.add("value-" + column + "-" + row);
+                }
+                if ("csv".equals(format)) {
+                    writer.write(String.join(",", values) + "\n");
+                } else {
+                    writer.write(row == 0 ? "{" : ",\n{");
+                    for (int column = 0; column < COLUMNS; column++) {
+                        writer.write((column == 0 ? "\"" : ",\"") + header.get(column) + "\":\"" + values.get(column) + "\"");
+                    }
+                    writer.write("}");
+                }
+            }
+            if (!"csv".equals(format)) {
+                writer.write("\n]\n");
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeakHeap() {
+        PeakHeap.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportPeakHeap() {
+        System.out.printf("%n[%s] peak heap: %d MB%n", format, PeakHeap.megabytes());
+    }
+
+    @Benchmark
+    public List<Map<String, String>> filterAfterRead() {
+        try (RowIterator iterator = open(RowQuery.all())) {
+            return iterator.toList().stream()
+                    .filter(row -> "QA".equals(row.get("environment")))
+                    .toList();
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, String>> pushdown() {
+        try (RowIterator iterator = open(QUERY)) {
+            return iterator.toList();
+        }
+    }
+
+    private RowIterator open(RowQuery query) {
+        return "csv".equals(format) ? CsvHelper.iterateAsMaps(file, query) : JsonHelper.iterateMapsFromFile(file, query);
+    }
+}
@@ -0,0 +1,116 @@
+package com.sangle.selenium.benchmarks;
+
+import com.opencsv.CSVReader;
+import com.sangle.selenium.utils.CsvHelper;
+import com.sangle.selenium.utils.RowIterator;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Retained heap and column lookup speed of {@code rows} CSV rows held as one {@code HashMap} per row
+ * ({@code hashMap}, the previous representation) or as {@code DataRow}s over a shared schema ({@code dataRow}).
+ * The retained heap of the loaded rows is printed once per trial; the benchmark reads three columns of every row.
+ * Run with {@code mvn -P benchmark test -Dbenchmark=DataRowBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Dlogback.configurationFile=logback-benchmark.xml", "-Xmx3g", "-Ddata.cache.enabled=false"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DataRowBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"hashMap", "dataRow"})
+    public String representation;
+
+    private List<Map<String, String>> data;
+
+    @Setup(Level.Trial)
+    public void load() throws Exception {
+        Path file = Paths.get("target", "benchmark-data", "users-" + rows + "-rows.csv");
+        if (!Files.exists(file)) {
+            write(file);
+        }
+        long before = usedHeap();
+        data = "hashMap".equals(representation) ? hashMaps(file) : dataRows(file);
+        long retained = usedHeap() - before;
+        System.out.printf("%n[%s] %d rows retain %d MB (%d bytes per row)%n", representation, data.size(),
+                retained / (1024 * 1024), retained / data.size());
+    }
+
+    @Benchmark
+    public long lookup() {
+        long length = 0;
+        for (Map<String, String> row : data) {
+            length += row.get("email").length() + row.get("city").length() + row.get("id").length();
+        }
+        return length;
+    }
+
+    private static List<Map<String, String>> hashMaps(Path file) throws Exception {
+        List<Map<String, String>> loaded = new ArrayList<>();
+        try (Reader reader = Files.newBufferedReader(file); CSVReader csvReader = new CSVReader(reader)) {
+            String[] headers = csvReader.readNext();
+            String[] row;
+            while ((row = csvReader.readNext()) != null) {
+                Map<String, String> mapped = new HashMap<>();
+                for (int index = 0; index < headers.length && index < row.length; index++) {
+                    mapped.put(headers[index], row[index]);
+                }
+                loaded.add(mapped);
+            }
+        }
+        return loaded;
+    }
+
+    private static List<Map<String, String>> dataRows(Path file) {
+        List<Map<String, String>> loaded = new ArrayList<>();
+        try (RowIterator iterator = CsvHelper.iterateAsMaps(file)) {
+            iterator.forEachRemaining(loaded::add);
+        }
+        return loaded;
+    }
+
+    private static long usedHeap() {
+        for (int run = 0; run < 3; run++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("id,firstName,lastName,email,phone,city\n");
+            for (int row = 0; row < rows; row++) {
+                writer.write(row + ",First" + row + ",Last" + row + ",user" + row + "@example.com,+1555" + row
+                        + ",City" + row % 500 + "\n");
+            }
+        }
+    }
+}
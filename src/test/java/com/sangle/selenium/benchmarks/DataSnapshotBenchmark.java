@@ -0,0 +1,94 @@
+package com.sangle.selenium.benchmarks;
+
+import com.sangle.selenium.data.DataSnapshot;
+import com.sangle.selenium.utils.CsvHelper;
+import com.sangle.selenium.utils.RowIterator;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Startup and access cost of a {@code rows}-row CSV file read by parsing ({@code parse}) against its memory-mapped
+ * snapshot: opening it ({@code snapshotOpen}), reading every row ({@code snapshotScan}) and reading
+ * {@value #RANDOM_READS} random rows ({@code snapshotRandomAccess}). The snapshot is built during setup.
+ * Run with {@code mvn -P benchmark test -Dbenchmark=DataSnapshotBenchmark}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Dlogback.configurationFile=logback-benchmark.xml", "-Xmx3g",
+        "-Ddata.snapshot.dir=target/benchmark-data/snapshots"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class DataSnapshotBenchmark {
+
+    private static final int RANDOM_READS = 10_000;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Paths.get("target", "benchmark-data", "users-" + rows + "-snapshot.csv");
+        if (!Files.exists(file)) {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                writer.write("id,firstName,lastName,email,phone,city\n");
+                for (int row = 0; row < rows; row++) {
+                    writer.write(row + ",First" + row + ",Last" + row + ",user" + row + "@example.com,+1555" + row
+                            + ",City" + row % 500 + "\n");
+                }
+            }
+        }
+        long start = System.nanoTime();
+        DataSnapshot snapshot = CsvHelper.openSnapshot(file);
+        System.out.printf("%nsnapshot: %d MB from %d MB of CSV, built in %d ms%n",
+                Files.size(snapshot.file()) / (1024 * 1024), Files.size(file) / (1024 * 1024),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        try (RowIterator iterator = CsvHelper.iterateAsMaps(file)) {
+            iterator.forEachRemaining(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public int snapshotOpen() {
+        return CsvHelper.openSnapshot(file).size();
+    }
+
+    @Benchmark
+    public void snapshotScan(Blackhole blackhole) {
+        CsvHelper.openSnapshot(file).rows().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void snapshotRandomAccess(Blackhole blackhole) {
+        DataSnapshot snapshot = CsvHelper.openSnapshot(file);
+        Random random = new Random(42);
+        for (int read = 0; read < RANDOM_READS; read++) {
+            blackhole.consume(snapshot.row(random.nextInt(snapshot.size())));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.sangle.selenium.benchmarks;
+
+import com.sangle.selenium.driver.DriverManager;
+import com.sangle.selenium.elements.TextBoxElement;
+import com.sangle.selenium.validation.BulkElementValidator;
+import com.sangle.selenium.validation.BulkValidationResult;
+import com.sangle.selenium.validation.ElementValidator;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Validating a 20-field form (visible, enabled and value of every field) with chained {@link ElementValidator}
+ * calls and with one {@link BulkElementValidator} pass. The driver is simulated: every WebDriver command costs
+ * {@code latencyMicros}, the round trip to a local driver ({@code 500}) or a remote grid ({@code 5000}), so the
+ * scores show the cost of the round trips the framework issues rather than of the browser.
+ * Run with {@code mvn -P benchmark test -Dbenchmark=ElementValidationBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Dlogback.configurationFile=logback-benchmark.xml", "-Dtrace.enabled=false"})
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ElementValidationBenchmark {
+
+    private static final int FIELDS = 20;
+    private static final String VALUE = "filled in";
+
+    @Param({"500", "5000"})
+    public long latencyMicros;
+
+    private final List<TextBoxElement> fields = new ArrayList<>();
+    private SimulatedDriver simulated;
+    private WebDriver driver;
+    private long operations;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws ReflectiveOperationException {
+        simulated = new SimulatedDriver(TimeUnit.MICROSECONDS.toNanos(latencyMicros));
+        driver = simulated.driver();
+        // BaseElement resolves the driver of the current thread; there is no browser here.
+        Field threadDriver = DriverManager.class.getDeclaredField("DRIVER");
+        threadDriver.setAccessible(true);
+        ((ThreadLocal<WebDriver>) threadDriver.get(null)).set(driver);
+        for (int i = 0; i < FIELDS; i++) {
+            fields.add(new TextBoxElement(By.id("field" + i), "Field " + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n%.1f WebDriver commands per validation%n", simulated.commands / (double) operations);
+        simulated.commands = 0;
+        operations = 0;
+    }
+
+    @Benchmark
+    public ElementValidator chained() {
+        operations++;
+        ElementValidator validator = new ElementValidator(driver);
+        for (TextBoxElement field : fields) {
+            validator.isVisible(field, field.getName() + " should be visible")
+                    .isEnabled(field, field.getName() + " should be enabled")
+                    .hasAttribute(field, "value", VALUE, field.getName() + " should be filled in");
+        }
+        return validator;
+    }
+
+    @Benchmark
+    public BulkValidationResult bulk() {
+        operations++;
+        BulkElementValidator validator = new ElementValidator(driver).bulk();
+        for (TextBoxElement field : fields) {
+            validator.visible(field).enabled(field).hasAttribute(field, "value", VALUE);
+        }
+        return validator.verify("Form is filled in");
+    }
+
+    /**
+     * WebDriver whose every command waits for the configured latency and succeeds.
+     */
+    private static final class SimulatedDriver implements InvocationHandler {
+
+        private final long latencyNanos;
+        private long commands;
+
+        SimulatedDriver(long latencyNanos) {
+            this.latencyNanos = latencyNanos;
+        }
+
+        WebDriver driver() {
+            return (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {WebDriver.class, JavascriptExecutor.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> "SimulatedDriver";
+                };
+            }
+            commands++;
+            LockSupport.parkNanos(latencyNanos);
+            return switch (method.getName()) {
+                case "findElement" -> element();
+                case "findElements" -> List.of(element());
+                case "executeAsyncScript" -> passingScriptResult((List<?>) ((Object[]) args[1])[1]);
+                case "isDisplayed", "isEnabled" -> true;
+                case "getAttribute", "getDomProperty", "getDomAttribute" -> VALUE;
+                case "getText", "getTagName" -> "";
+                default -> method.getReturnType() == boolean.class ? false : null;
+            };
+        }
+
+        private WebElement element() {
+            return (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {WebElement.class}, this);
+        }
+
+        private static List<Object> passingScriptResult(List<?> checks) {
+            List<Object> results = new ArrayList<>(checks.size());
+            for (int i = 0; i < checks.size(); i++) {
+                results.add(List.of(true, true, VALUE));
+            }
+            return List.of(1L, results);
+        }
+    }
+}
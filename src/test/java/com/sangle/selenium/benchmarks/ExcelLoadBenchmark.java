@@ -0,0 +1,110 @@
+package com.sangle.selenium.benchmarks;
+
+import com.sangle.selenium.utils.ExcelHelper;
+import com.sangle.selenium.utils.RowIterator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Time and peak heap to read a generated workbook of {@code rows} users through {@code ExcelHelper}:
+ * {@code workbook} is the {@code WorkbookFactory} path of {@code readSheet}, {@code streamingList} reads the same
+ * rows eagerly from the sheet XML and {@code streamingIterator} consumes them lazily. The peak heap of every
+ * iteration is printed after it.
+ * Run with {@code mvn -P benchmark test -Dbenchmark=ExcelLoadBenchmark}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Dlogback.configurationFile=logback-benchmark.xml", "-Xmx3g", "-Ddata.cache.enabled=false"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ExcelLoadBenchmark {
+
+    private static final String SHEET = "Users";
+
+    @Param({"200000"})
+    public int rows;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void writeWorkbook() throws IOException {
+        file = Paths.get("target", "benchmark-data", "users-" + rows + ".xlsx");
+        if (Files.exists(file)) {
+            return;
+        }
+        Files.createDirectories(file.getParent());
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(1_000); OutputStream output = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet(SHEET);
+            String[] headers = {"id", "firstName", "lastName", "email", "phone", "city"};
+            Row header = sheet.createRow(0);
+            for (int column = 0; column < headers.length; column++) {
+                header.createCell(column).setCellValue(headers[column]);
+            }
+            for (int index = 1; index <= rows; index++) {
+                Row row = sheet.createRow(index);
+                row.createCell(0).setCellValue(index);
+                row.createCell(1).setCellValue("First" + index);
+                row.createCell(2).setCellValue("Last" + index);
+                row.createCell(3).setCellValue("user" + index + "@example.com");
+                row.createCell(4).setCellValue("+1555" + index);
+                row.createCell(5).setCellValue("City" + index % 500);
+            }
+            workbook.write(output);
+            workbook.dispose();
+        }
+        System.out.printf("%nworkbook: %d MB%n", Files.size(file) / (1024 * 1024));
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeakHeap() {
+        PeakHeap.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportPeakHeap() {
+        System.out.printf("%npeak heap: %d MB%n", PeakHeap.megabytes());
+    }
+
+    @Benchmark
+    public void workbook(Blackhole blackhole) {
+        ExcelHelper.readSheet(file, SHEET).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void streamingList(Blackhole blackhole) {
+        ExcelHelper.readSheetStreaming(file, SHEET).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void streamingIterator(Blackhole blackhole) {
+        try (RowIterator iterator = ExcelHelper.iterateSheet(file, SHEET)) {
+            while (iterator.hasNext()) {
+                Map<String, String> row = iterator.next();
+                blackhole.consume(row);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.sangle.selenium.benchmarks;
+
+import com.sangle.selenium.utils.FakeUser;
+import com.sangle.selenium.utils.FakerUtil;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Users per second: {@code shared*} generate each user from one {@link Faker} shared by all threads with a
+ * separately resolved email, as {@code FakerUtil} did before, {@code perThread*} through {@link FakerUtil#user()}
+ * and {@code batch} through {@link FakerUtil#users(long, int)} on the generation pool. Run with
+ * {@code mvn -P benchmark test -Dbenchmark=FakeDataBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Dlogback.configurationFile=logback-benchmark.xml", "-Dfaker.seed=42"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FakeDataBenchmark {
+
+    private static final int BATCH = 10_000;
+
+    private final Faker shared = new Faker();
+
+    @Benchmark
+    @Threads(1)
+    public FakeUser sharedSingleThread() {
+        return sharedUser();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public FakeUser sharedFourThreads() {
+        return sharedUser();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public FakeUser perThreadSingleThread() {
+        return FakerUtil.user();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public FakeUser perThreadFourThreads() {
+        return FakerUtil.user();
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(BATCH)
+    public List<FakeUser> batch() {
+        return FakerUtil.users(42L, BATCH);
+    }
+
+    private FakeUser sharedUser() {
+        return new FakeUser(shared.name().firstName(), shared.name().lastName(), shared.internet().emailAddress(),
+                shared.phoneNumber().cellPhone(), shared.address().streetAddress(), shared.address().city(),
+                shared.address().zipCode());
+    }
+}
@@ -0,0 +1,112 @@
+package com.sangle.selenium.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sangle.selenium.utils.JsonHelper;
+import com.sangle.selenium.utils.JsonValueIterator;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Time and peak heap to bind a generated file of {@code rows} users to records: {@code legacyList} is the former
+ * {@code readListFromFile} (unbuffered reader, new collection type per call), {@code list} the current one with a
+ * cached reader, {@code iterate} streams the array and {@code iterateNdjson} the same users as NDJSON through
+ * {@link JsonHelper#iterateFromFile}. The small file shows the per-call overhead, the large one throughput and
+ * memory. Run with {@code mvn -P benchmark test -Dbenchmark=JsonBindBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Dlogback.configurationFile=logback-benchmark.xml", "-Xmx3g", "-Ddata.cache.enabled=false"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonBindBenchmark {
+
+    private static final ObjectMapper LEGACY_MAPPER = new ObjectMapper();
+
+    @Param({"100", "500000"})
+    public int rows;
+
+    private Path array;
+    private Path ndjson;
+
+    public record User(long id, String firstName, String lastName, String email, String phone, String city) {
+    }
+
+    @Setup(Level.Trial)
+    public void writeFiles() throws IOException {
+        array = Paths.get("target", "benchmark-data", "bind-" + rows + ".json");
+        ndjson = Paths.get("target", "benchmark-data", "bind-" + rows + ".ndjson");
+        if (Files.exists(array) && Files.exists(ndjson)) {
+            return;
+        }
+        Files.createDirectories(array.getParent());
+        try (BufferedWriter arrayWriter = Files.newBufferedWriter(array);
+             BufferedWriter ndjsonWriter = Files.newBufferedWriter(ndjson)) {
+            arrayWriter.write("[\n");
+            for (int row = 0; row < rows; row++) {
+                String user = "{\"id\":" + row + ",\"firstName\":\"First" + row + "\",\"lastName\":\"Last" + row
+                        + "\",\"email\":\"user" + row + "@example.com\",\"phone\":\"+1555" + row + "\",\"city\":\"City"
+                        + row % 500 + "\"}";
+                arrayWriter.write((row == 0 ? "" : ",\n") + user);
+                ndjsonWriter.write(user + "\n");
+            }
+            arrayWriter.write("\n]\n");
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeakHeap() {
+        PeakHeap.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportPeakHeap() {
+        System.out.printf("%n[%d rows] peak heap: %d MB%n", rows, PeakHeap.megabytes());
+    }
+
+    @Benchmark
+    public List<User> legacyList() throws IOException {
+        return LEGACY_MAPPER.readValue(Files.newBufferedReader(array),
+                LEGACY_MAPPER.getTypeFactory().constructCollectionType(List.class, User.class));
+    }
+
+    @Benchmark
+    public List<User> list() {
+        return JsonHelper.readListFromFile(array, User.class);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        consume(JsonHelper.iterateFromFile(array, User.class), blackhole);
+    }
+
+    @Benchmark
+    public void iterateNdjson(Blackhole blackhole) {
+        consume(JsonHelper.iterateFromFile(ndjson, User.class), blackhole);
+    }
+
+    private static void consume(JsonValueIterator<User> users, Blackhole blackhole) {
+        while (users.hasNext()) {
+            blackhole.consume(users.next());
+        }
+    }
+}
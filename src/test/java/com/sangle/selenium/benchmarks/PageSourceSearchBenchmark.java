@@ -0,0 +1,82 @@
+package com.sangle.selenium.benchmarks;
+
+import com.sangle.selenium.utils.MultiPatternMatcher;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Searching a ~300KB page source for {@code patterns} texts, half expected near the end of the page and half that
+ * must be absent, so every text scans most of the source. {@code containsPerPattern} is one
+ * {@code String.contains} per text, as the single-text {@code PageValidator} checks do; {@code multiPattern}
+ * builds a {@link MultiPatternMatcher} and scans once. Transfer savings from the page-source snapshot are not
+ * measured here; they are logged per test by the listener.
+ * Run with {@code mvn -P benchmark test -Dbenchmark=PageSourceSearchBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PageSourceSearchBenchmark {
+
+    private static final int ROWS = 1500;
+
+    @Param({"4", "20", "60"})
+    public int patterns;
+
+    private String source;
+    private List<String> texts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder html = new StringBuilder("<html><head><title>Orders</title></head><body><table>");
+        for (int row = 0; row < ROWS; row++) {
+            html.append("<tr class=\"order-row\" data-id=\"").append(row).append("\"><td>Order ").append(row)
+                    .append("</td><td><span class=\"status\">Shipped</span></td><td>$").append(row * 7 % 1000)
+                    .append(".00</td><td><a href=\"/orders/").append(row).append("\">Details</a></td></tr>\n");
+        }
+        html.append("</table><footer>");
+        texts = new ArrayList<>(patterns);
+        for (int index = 0; index < patterns; index++) {
+            if (index % 2 == 0) {
+                String expected = "Summary line " + index;
+                html.append("<p>").append(expected).append("</p>");
+                texts.add(expected);
+            } else {
+                texts.add("Unexpected error " + index);
+            }
+        }
+        source = html.append("</footer></body></html>").toString();
+    }
+
+    @Benchmark
+    public int containsPerPattern() {
+        int found = 0;
+        for (String text : texts) {
+            if (source.contains(text)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public BitSet multiPattern() {
+        return MultiPatternMatcher.of(texts).find(source);
+    }
+}
@@ -0,0 +1,32 @@
+package com.sangle.selenium.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+
+/**
+ * Peak heap usage across all heap pools between {@link #reset()} and {@link #megabytes()}, for benchmarks that
+ * report memory next to time.
+ */
+final class PeakHeap {
+
+    private PeakHeap() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static void reset() {
+        System.gc();
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    static long megabytes() {
+        return heapPools().stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum() / (1024 * 1024);
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.sangle.selenium.benchmarks;
+
+import com.sangle.selenium.logging.StepLogger;
+import com.sangle.selenium.validation.SoftAssertions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of a passing soft assertion when four threads share one collector. {@code loggedPass} is the previous
+ * behaviour, one synchronous {@link StepLogger#info} per pass; {@code synchronizedList} records the same outcome
+ * in a synchronized list; {@code softAssertions} is the lock-free {@link SoftAssertions} with a deferred message.
+ * Collectors are replaced every iteration to bound memory.
+ * Run with {@code mvn -P benchmark test -Dbenchmark=SoftAssertionsBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-Dlogback.configurationFile=logback-benchmark.xml"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+public class SoftAssertionsBenchmark {
+
+    private static final String MESSAGE = "Order total should match the cart";
+
+    private SoftAssertions softAssertions;
+    private List<Recorded> synchronizedList;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        softAssertions = new SoftAssertions(false);
+        synchronizedList = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        StepLogger.flush();
+    }
+
+    @Benchmark
+    public SoftAssertions softAssertions() {
+        return softAssertions.assertEquals(42, 42, () -> MESSAGE);
+    }
+
+    @Benchmark
+    public void synchronizedList() {
+        long started = System.nanoTime();
+        boolean passed = Objects.equals(42, 42);
+        synchronizedList.add(new Recorded(Thread.currentThread().getName(), passed, MESSAGE,
+                System.nanoTime() - started));
+    }
+
+    @Benchmark
+    public void loggedPass() {
+        if (Objects.equals(42, 42)) {
+            StepLogger.info("Soft assertion passed: " + MESSAGE);
+        }
+    }
+
+    private record Recorded(String thread, boolean passed, String message, long durationNanos) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.sangle.selenium.benchmarks;
+
+import com.sangle.selenium.constants.FrameworkConstants;
+import com.sangle.selenium.logging.StepLogger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.By;
+
+/**
+ * Per-action logging overhead on the calling thread: one START and one SUCCESS event, as logged by
+ * {@code BaseElement.performAction}, with synchronous and asynchronous {@link StepLogger} modes.
+ * {@code saturated} logs back to back and is bounded by the appender in both modes; {@code pacedAction}
+ * spaces actions with simulated browser work, which is what tests see, and is compared with {@code pacedBaseline}.
+ * Run with {@code mvn -P benchmark test -Dbenchmark=StepLoggerBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(2)
+public class StepLoggerBenchmark {
+
+    private static final By LOCATOR = By.id("userName");
+    private static final long SIMULATED_WORK_TOKENS = 50_000;
+
+    @Param({"false", "true"})
+    public String async;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty(FrameworkConstants.ENV_STEP_LOGGER_ASYNC, async);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        StepLogger.flush();
+    }
+
+    @Benchmark
+    public void saturated() {
+        logAction();
+    }
+
+    @Benchmark
+    public void pacedAction() {
+        Blackhole.consumeCPU(SIMULATED_WORK_TOKENS);
+        logAction();
+    }
+
+    @Benchmark
+    public void pacedBaseline() {
+        Blackhole.consumeCPU(SIMULATED_WORK_TOKENS);
+    }
+
+    private static void logAction() {
+        StepLogger.actionStart("Username Field", "type text", LOCATOR);
+        StepLogger.actionSuccess("Username Field", "type text", LOCATOR, null);
+    }
+}
@@ -0,0 +1,187 @@
+package com.sangle.selenium.benchmarks;
+
+import com.sangle.selenium.visual.VisualComparator;
+import com.sangle.selenium.visual.VisualOptions;
+import com.sangle.selenium.visual.VisualResult;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link VisualComparator} on pairs of PNG screenshots for each comparison outcome:
+ * byte-identical, re-rendered within tolerance, a small pixel mismatch and a perceptually different page.
+ * The corpus is generated page-like images unless {@code -p corpusDir=<dir>} points at a directory of PNGs,
+ * from which the same four variants are derived.
+ * Run with {@code mvn -P benchmark test -Dbenchmark=VisualComparatorBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Dlogback.configurationFile=logback-benchmark.xml", "-Djava.awt.headless=true"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VisualComparatorBenchmark {
+
+    private static final int GENERATED_IMAGES = 8;
+    private static final int WIDTH = 1366;
+    private static final int HEIGHT = 768;
+
+    @Param({""})
+    public String corpusDir;
+
+    private final VisualComparator comparator = new VisualComparator(new VisualOptions(8, 0.001, -1));
+    private final List<byte[]> baselines = new ArrayList<>();
+    private final List<byte[]> withinTolerance = new ArrayList<>();
+    private final List<byte[]> smallChange = new ArrayList<>();
+    private final List<byte[]> pageChange = new ArrayList<>();
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        for (BufferedImage image : corpus()) {
+            baselines.add(png(image));
+            withinTolerance.add(png(noise(image)));
+            smallChange.add(png(changedLabel(image)));
+            pageChange.add(png(flipped(image)));
+        }
+    }
+
+    @Benchmark
+    public VisualResult identical() {
+        int index = nextIndex();
+        return comparator.compare(baselines.get(index), baselines.get(index).clone(), List.of());
+    }
+
+    @Benchmark
+    public VisualResult withinTolerance() {
+        int index = nextIndex();
+        return comparator.compare(baselines.get(index), withinTolerance.get(index), List.of());
+    }
+
+    @Benchmark
+    public VisualResult pixelMismatch() {
+        int index = nextIndex();
+        return comparator.compare(baselines.get(index), smallChange.get(index), List.of());
+    }
+
+    @Benchmark
+    public VisualResult pageChange() {
+        int index = nextIndex();
+        return comparator.compare(baselines.get(index), pageChange.get(index), List.of());
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % baselines.size();
+        return next;
+    }
+
+    private List<BufferedImage> corpus() throws IOException {
+        List<BufferedImage> images = new ArrayList<>();
+        if (!corpusDir.isBlank()) {
+            try (Stream<Path> files = Files.list(Paths.get(corpusDir))) {
+                for (Path file : files.filter(path -> path.toString().endsWith(".png")).toList()) {
+                    images.add(ImageIO.read(file.toFile()));
+                }
+            }
+            if (!images.isEmpty()) {
+                return images;
+            }
+        }
+        Random random = new Random(42);
+        for (int index = 0; index < GENERATED_IMAGES; index++) {
+            images.add(page(random));
+        }
+        return images;
+    }
+
+    private static BufferedImage page(Random random) {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, WIDTH, HEIGHT);
+        graphics.setColor(new Color(33, 37, 41));
+        graphics.fillRect(0, 0, WIDTH, 64);
+        graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 14));
+        for (int block = 0; block < 40; block++) {
+            int x = random.nextInt(WIDTH - 300);
+            int y = 80 + random.nextInt(HEIGHT - 140);
+            graphics.setColor(new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256)));
+            graphics.fillRoundRect(x, y, 120 + random.nextInt(180), 24 + random.nextInt(40), 8, 8);
+            graphics.setColor(Color.BLACK);
+            graphics.drawString("Field label " + block, x + 8, y + 18);
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    private static BufferedImage noise(BufferedImage source) {
+        BufferedImage copy = copy(source);
+        Random random = new Random(7);
+        for (int pixel = 0; pixel < 5_000; pixel++) {
+            int x = random.nextInt(copy.getWidth());
+            int y = random.nextInt(copy.getHeight());
+            int rgb = copy.getRGB(x, y);
+            copy.setRGB(x, y, (rgb & 0xFFFFFF00) | Math.max(0, (rgb & 0xFF) - 3));
+        }
+        return copy;
+    }
+
+    private static BufferedImage changedLabel(BufferedImage source) {
+        BufferedImage copy = copy(source);
+        Graphics2D graphics = copy.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(copy.getWidth() / 3, copy.getHeight() / 3, 80, 24);
+        graphics.dispose();
+        return copy;
+    }
+
+    private static BufferedImage flipped(BufferedImage source) {
+        BufferedImage copy = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = copy.createGraphics();
+        graphics.drawImage(source, source.getWidth(), 0, -source.getWidth(), source.getHeight(), null);
+        graphics.dispose();
+        return copy;
+    }
+
+    private static BufferedImage copy(BufferedImage source) {
+        BufferedImage copy = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = copy.createGraphics();
+        graphics.drawImage(source, 0, 0, null);
+        graphics.dispose();
+        return copy;
+    }
+
+    private static byte[] png(BufferedImage image) {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", output);
+            return output.toByteArray();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.sangle.selenium.data;
 
 import com.sangle.selenium.utils.CsvHelper;
 import com.sangle.selenium.utils.JsonHelper;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import org.testng.annotations.DataProvider;
@@ -23,4 +24,9 @@ public final class TestDataProviders {
         List<Map<String, String>> rows = CsvHelper.readAsMapsFromResource("test-data/users.csv");
         return DataProviderUtils.wrapKeyValue(rows);
     }
+
+    @DataProvider(name = "userDataFromCsvLazy")
+    public static Iterator<Object[]> userDataFromCsvLazy() {
+        return DataProviderUtils.lazyKeyValue(CsvHelper.iterateAsMapsFromResource("test-data/users.csv"));
+    }
 }
@@ -1,20 +1,36 @@
 package com.sangle.selenium.listeners;
 
 import com.sangle.selenium.config.ConfigManager;
+import com.sangle.selenium.data.LeasePool;
+import com.sangle.selenium.data.LeaseStats;
+import com.sangle.selenium.data.TestDataCache;
 import com.sangle.selenium.driver.DriverManager;
+import com.sangle.selenium.driver.VideoRecorder;
+import com.sangle.selenium.driver.VideoRecording;
+import com.sangle.selenium.elements.HealingRegistry;
+import com.sangle.selenium.logging.StepLogger;
+import com.sangle.selenium.tracing.TraceRecorder;
+import com.sangle.selenium.utils.FakerUtil;
+import com.sangle.selenium.utils.ScreenshotHistory;
 import com.sangle.selenium.utils.ScreenshotUtil;
+import com.sangle.selenium.validation.PageSourceCache;
+import com.sangle.selenium.validation.PageSourceStats;
 import io.qameta.allure.Allure;
 import java.nio.file.Path;
+import java.util.List;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
-public final class FrameworkTestListener implements ITestListener {
+public final class FrameworkTestListener implements ITestListener, IInvokedMethodListener {
 
     private static final Logger LOG = LoggerFactory.getLogger(FrameworkTestListener.class);
+    private static final long SCREENSHOT_FLUSH_MILLIS = 30_000;
 
     @Override
     public void onTestStart(ITestResult result) {
@@ -26,14 +42,55 @@ public final class FrameworkTestListener implements ITestListener {
         }
     }
 
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            StepLogger.beginTest(testResult.getName());
+            TraceRecorder.beginTest(testResult.getName());
+            ScreenshotHistory.discard();
+            VideoRecorder.startTest();
+            FakerUtil.reseed(testResult.getMethod().getQualifiedName() + "#"
+                    + testResult.getMethod().getCurrentInvocationCount());
+            PageSourceCache.beginTest();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        // Runs before the Allure result is stopped, so buffered steps still land in the right test.
+        if (method.isTestMethod()) {
+            StepLogger.endTest(testResult.isSuccess());
+            Path trace = TraceRecorder.endTest(testResult.isSuccess());
+            if (trace != null) {
+                LOG.debug("Trace written: {}", trace.toAbsolutePath());
+            }
+            VideoRecording video = VideoRecorder.finishTest(testResult.getName(), testResult.isSuccess());
+            if (video != null && video.video() != null) {
+                LOG.info("Video recorded: {}", video.video().toAbsolutePath());
+            }
+            PageSourceStats pageSources = PageSourceCache.endTest();
+            if (pageSources.hits() > 0) {
+                LOG.info("Page sources of {}: {}", testResult.getName(), pageSources);
+            }
+        } else if (method.getTestMethod().isAfterMethodConfiguration()) {
+            TraceRecorder.discard();
+        }
+        StepLogger.flush();
+    }
+
     @Override
     public void onTestSuccess(ITestResult result) {
         LOG.info("Test succeeded: {}", result.getName());
+        ScreenshotHistory.discard();
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
         LOG.error("Test failed: {}", result.getName(), result.getThrowable());
+        List<Path> history = ScreenshotHistory.persist(result.getName());
+        if (!history.isEmpty()) {
+            LOG.info("Persisted {} step screenshots leading up to the failure", history.size());
+        }
         if (!ConfigManager.getConfig().screenshotOnFailure()) {
             return;
         }
@@ -53,6 +110,7 @@ public final class FrameworkTestListener implements ITestListener {
     @Override
     public void onTestSkipped(ITestResult result) {
         LOG.warn("Test skipped: {}", result.getName());
+        ScreenshotHistory.discard();
     }
 
     @Override
@@ -63,5 +121,23 @@ public final class FrameworkTestListener implements ITestListener {
     @Override
     public void onFinish(ITestContext context) {
         LOG.info("Suite finished: {}", context.getName());
+        if (!ScreenshotUtil.flush(SCREENSHOT_FLUSH_MILLIS)) {
+            LOG.warn("Screenshots still pending after {}ms", SCREENSHOT_FLUSH_MILLIS);
+        }
+        LOG.info("Screenshot pipeline: {}", ScreenshotUtil.stats());
+        if (TestDataCache.isEnabled()) {
+            LOG.info("Test data cache: {}", TestDataCache.stats());
+        }
+        PageSourceStats pageSources = PageSourceCache.stats();
+        if (pageSources.fetches() > 0) {
+            LOG.info("Page sources: {}", pageSources);
+        }
+        for (LeaseStats leases : LeasePool.allStats()) {
+            LOG.info("Lease pool {}", leases);
+        }
+        Path healingReport = HealingRegistry.writeReport();
+        if (healingReport != null) {
+            LOG.warn("Elements needed locator healing, see report: {}", healingReport.toAbsolutePath());
+        }
     }
 }
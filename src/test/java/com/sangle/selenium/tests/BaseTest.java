@@ -1,5 +1,6 @@
 package com.sangle.selenium.tests;
 
+import com.sangle.selenium.data.LeasePool;
 import com.sangle.selenium.driver.DriverManager;
 import com.sangle.selenium.listeners.FrameworkTestListener;
 import org.openqa.selenium.WebDriver;
@@ -23,6 +24,7 @@ public abstract class BaseTest {
         } catch (IllegalStateException ignored) {
             // Driver was not initialised; nothing to clean up.
         } finally {
+            LeasePool.releaseAll();
             DriverManager.quitDriver();
         }
     }
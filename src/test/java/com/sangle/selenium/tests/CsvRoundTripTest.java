@@ -0,0 +1,50 @@
+package com.sangle.selenium.tests;
+
+import com.sangle.selenium.utils.CsvHelper;
+import com.sangle.selenium.utils.DataGenerator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Files written by {@link DataGenerator} must read back unchanged through the {@link CsvHelper} readers.
+ */
+public class CsvRoundTripTest {
+
+    private static final List<String> VALUES = List.of(
+            "plain",
+            "C:\\dir\\file",
+            "ends with \\",
+            "say \"hi\"",
+            "escaped \\\" quote",
+            "a,b",
+            "two\nlines");
+
+    @Test
+    public void generatedCsvReadsBackUnchanged() throws IOException {
+        DataGenerator.Builder builder = DataGenerator.builder();
+        for (int index = 0; index < VALUES.size(); index++) {
+            String value = VALUES.get(index);
+            builder.column("c" + index, faker -> value);
+        }
+        Path file = Files.createTempFile("round-trip", ".csv");
+        try {
+            builder.build().writeCsv(file, 3, 42L);
+
+            List<Map<String, String>> rows = CsvHelper.readAsMaps(file);
+
+            Assert.assertEquals(rows.size(), 3);
+            for (Map<String, String> row : rows) {
+                for (int index = 0; index < VALUES.size(); index++) {
+                    Assert.assertEquals(row.get("c" + index), VALUES.get(index), "column c" + index);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}